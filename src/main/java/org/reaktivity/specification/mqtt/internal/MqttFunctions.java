@@ -17,15 +17,34 @@ package org.reaktivity.specification.mqtt.internal;
 
 import static java.nio.charset.StandardCharsets.UTF_8;
 
+import java.nio.ByteBuffer;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import org.agrona.DirectBuffer;
 import org.agrona.MutableDirectBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
+import org.kaazing.k3po.lang.el.BytesMatcher;
 import org.kaazing.k3po.lang.el.Function;
 import org.kaazing.k3po.lang.el.spi.FunctionMapperSpi;
+import org.reaktivity.specification.mqtt.internal.types.Array32FW;
+import org.reaktivity.specification.mqtt.internal.types.Flyweight;
 import org.reaktivity.specification.mqtt.internal.types.MqttCapabilities;
+import org.reaktivity.specification.mqtt.internal.types.MqttInflightFW;
 import org.reaktivity.specification.mqtt.internal.types.MqttPayloadFormat;
 import org.reaktivity.specification.mqtt.internal.types.MqttPayloadFormatFW;
 import org.reaktivity.specification.mqtt.internal.types.MqttPublishFlags;
+import org.reaktivity.specification.mqtt.internal.types.MqttQoS;
+import org.reaktivity.specification.mqtt.internal.types.MqttRetainedSnapshotFW;
+import org.reaktivity.specification.mqtt.internal.types.MqttSessionStateFW;
+import org.reaktivity.specification.mqtt.internal.types.MqttSessionWillFW;
 import org.reaktivity.specification.mqtt.internal.types.MqttSubscribeFlags;
+import org.reaktivity.specification.mqtt.internal.types.MqttTopicFilterFW;
+import org.reaktivity.specification.mqtt.internal.types.MqttUserPropertyFW;
+import org.reaktivity.specification.mqtt.internal.types.OctetsFW;
+import org.reaktivity.specification.mqtt.internal.types.String16FW;
+import org.reaktivity.specification.mqtt.internal.types.Varbyteuint32FW;
 import org.reaktivity.specification.mqtt.internal.types.stream.MqttAbortExFW;
 import org.reaktivity.specification.mqtt.internal.types.stream.MqttBeginExFW;
 import org.reaktivity.specification.mqtt.internal.types.stream.MqttDataExFW;
@@ -33,6 +52,9 @@ import org.reaktivity.specification.mqtt.internal.types.stream.MqttFlushExFW;
 
 public final class MqttFunctions
 {
+    private static final ThreadLocal<MqttReusableBuilders> REUSABLE_BUILDERS =
+            ThreadLocal.withInitial(MqttReusableBuilders::new);
+
     @Function
     public static byte[] payloadFormat(String format)
     {
@@ -46,6 +68,15 @@ public final class MqttFunctions
         return array;
     }
 
+    @Function
+    public static byte[] randomBytes(
+        int length)
+    {
+        final byte[] bytes = new byte[length];
+        ThreadLocalRandom.current().nextBytes(bytes);
+        return bytes;
+    }
+
     @Function
     public static MqttBeginExBuilder beginEx()
     {
@@ -70,13 +101,56 @@ public final class MqttFunctions
         return new MqttAbortExBuilder();
     }
 
+    @Function
+    public static MqttSessionStateBuilder session()
+    {
+        return new MqttSessionStateBuilder();
+    }
+
+    @Function
+    public static MqttRetainedSnapshotBuilder retained()
+    {
+        return new MqttRetainedSnapshotBuilder();
+    }
+
+    @Function
+    public static MqttReusableBuilders reusable()
+    {
+        return REUSABLE_BUILDERS.get();
+    }
+
+    @Function
+    public static MqttBeginExMatcherBuilder matchBeginEx()
+    {
+        return new MqttBeginExMatcherBuilder();
+    }
+
+    @Function
+    public static MqttDataExMatcherBuilder matchDataEx()
+    {
+        return new MqttDataExMatcherBuilder();
+    }
+
+    @Function
+    public static MqttFlushExMatcherBuilder matchFlushEx()
+    {
+        return new MqttFlushExMatcherBuilder();
+    }
+
+    @Function
+    public static MqttSessionStateMatcherBuilder matchSession()
+    {
+        return new MqttSessionStateMatcherBuilder();
+    }
+
     public static final class MqttBeginExBuilder
     {
+        private final MutableDirectBuffer writeBuffer;
         private final MqttBeginExFW.Builder beginExRW;
 
         private MqttBeginExBuilder()
         {
-            MutableDirectBuffer writeBuffer = new UnsafeBuffer(new byte[1024 * 8]);
+            this.writeBuffer = new UnsafeBuffer(new byte[1024 * 8]);
             this.beginExRW = new MqttBeginExFW.Builder().wrap(writeBuffer, 0, writeBuffer.capacity());
         }
 
@@ -101,15 +175,10 @@ public final class MqttFunctions
             return this;
         }
 
-        public MqttBeginExBuilder flags(
-            String... flags)
+        public MqttBeginExBuilder shareGroup(
+            String shareGroup)
         {
-            int subscribeFlags = 0;
-            for (int i = 0; i < flags.length; i++)
-            {
-                subscribeFlags |= 1 << MqttSubscribeFlags.valueOf(flags[i]).ordinal();
-            }
-            beginExRW.flags(subscribeFlags);
+            beginExRW.shareGroup(shareGroup);
             return this;
         }
 
@@ -120,10 +189,21 @@ public final class MqttFunctions
             return this;
         }
 
-        public MqttBeginExBuilder subscriptionId(
-            int id)
+        public MqttBeginExBuilder qos(
+            String qos)
+        {
+            beginExRW.qos(q -> q.set(MqttQoS.valueOf(qos)));
+            return this;
+        }
+
+        public MqttBeginExBuilder filter(
+            String pattern,
+            int subscriptionId,
+            String... flags)
         {
-            beginExRW.subscriptionId(id);
+            beginExRW.filtersItem(f -> f.pattern(pattern)
+                                        .subscriptionId(subscriptionId)
+                                        .flags(subscribeFlags(flags)));
             return this;
         }
 
@@ -151,15 +231,22 @@ public final class MqttFunctions
             beginEx.buffer().getBytes(beginEx.offset(), array);
             return array;
         }
+
+        private MqttBeginExBuilder reset()
+        {
+            beginExRW.wrap(writeBuffer, 0, writeBuffer.capacity());
+            return this;
+        }
     }
 
     public static final class MqttDataExBuilder
     {
+        private final MutableDirectBuffer writeBuffer;
         private final MqttDataExFW.Builder dataExRW;
 
         private MqttDataExBuilder()
         {
-            MutableDirectBuffer writeBuffer = new UnsafeBuffer(new byte[1024 * 8]);
+            this.writeBuffer = new UnsafeBuffer(new byte[1024 * 8]);
             this.dataExRW = new MqttDataExFW.Builder().wrap(writeBuffer, 0, writeBuffer.capacity());
         }
 
@@ -170,6 +257,13 @@ public final class MqttFunctions
             return this;
         }
 
+        public MqttDataExBuilder deferred(
+            int deferred)
+        {
+            dataExRW.deferred(deferred);
+            return this;
+        }
+
         public MqttDataExBuilder topic(
             String topic)
         {
@@ -180,12 +274,28 @@ public final class MqttFunctions
         public MqttDataExBuilder flags(
             String... flags)
         {
-            int publishFlags = 0;
-            for (int i = 0; i < flags.length; i++)
-            {
-                publishFlags |= 1 << MqttPublishFlags.valueOf(flags[i]).ordinal();
-            }
-            dataExRW.flags(publishFlags);
+            dataExRW.flags(publishFlags(flags));
+            return this;
+        }
+
+        public MqttDataExBuilder qos(
+            String qos)
+        {
+            dataExRW.qos(q -> q.set(MqttQoS.valueOf(qos)));
+            return this;
+        }
+
+        public MqttDataExBuilder packetId(
+            int packetId)
+        {
+            dataExRW.packetId(packetId);
+            return this;
+        }
+
+        public MqttDataExBuilder subscriptionId(
+            int subscriptionId)
+        {
+            dataExRW.subscriptionIdsItem(i -> i.set(subscriptionId));
             return this;
         }
 
@@ -247,15 +357,22 @@ public final class MqttFunctions
             dataEx.buffer().getBytes(dataEx.offset(), array);
             return array;
         }
+
+        private MqttDataExBuilder reset()
+        {
+            dataExRW.wrap(writeBuffer, 0, writeBuffer.capacity());
+            return this;
+        }
     }
 
     public static final class MqttFlushExBuilder
     {
+        private final MutableDirectBuffer writeBuffer;
         private final MqttFlushExFW.Builder flushExRW;
 
         private MqttFlushExBuilder()
         {
-            MutableDirectBuffer writeBuffer = new UnsafeBuffer(new byte[1024 * 8]);
+            this.writeBuffer = new UnsafeBuffer(new byte[1024 * 8]);
             this.flushExRW = new MqttFlushExFW.Builder().wrap(writeBuffer, 0, writeBuffer.capacity());
         }
 
@@ -269,12 +386,7 @@ public final class MqttFunctions
         public MqttFlushExBuilder flags(
             String... flags)
         {
-            int subscribeFlags = 0;
-            for (int i = 0; i < flags.length; i++)
-            {
-                subscribeFlags |= 1 << MqttSubscribeFlags.valueOf(flags[i]).ordinal();
-            }
-            flushExRW.flags(subscribeFlags);
+            flushExRW.flags(subscribeFlags(flags));
             return this;
         }
 
@@ -285,6 +397,24 @@ public final class MqttFunctions
             return this;
         }
 
+        public MqttFlushExBuilder filter(
+            String pattern,
+            int subscriptionId,
+            String... flags)
+        {
+            flushExRW.filtersItem(f -> f.pattern(pattern)
+                                        .subscriptionId(subscriptionId)
+                                        .flags(subscribeFlags(flags)));
+            return this;
+        }
+
+        public MqttFlushExBuilder unsubscribe(
+            String pattern)
+        {
+            flushExRW.unsubscribesItem(p -> p.set(pattern, UTF_8));
+            return this;
+        }
+
         public byte[] build()
         {
             final MqttFlushExFW flushEx = flushExRW.build();
@@ -292,15 +422,22 @@ public final class MqttFunctions
             flushEx.buffer().getBytes(flushEx.offset(), array);
             return array;
         }
+
+        private MqttFlushExBuilder reset()
+        {
+            flushExRW.wrap(writeBuffer, 0, writeBuffer.capacity());
+            return this;
+        }
     }
 
     public static final class MqttAbortExBuilder
     {
+        private final MutableDirectBuffer writeBuffer;
         private final MqttAbortExFW.Builder abortExRW;
 
         private MqttAbortExBuilder()
         {
-            MutableDirectBuffer writeBuffer = new UnsafeBuffer(new byte[1024 * 8]);
+            this.writeBuffer = new UnsafeBuffer(new byte[1024 * 8]);
             this.abortExRW = new MqttAbortExFW.Builder().wrap(writeBuffer, 0, writeBuffer.capacity());
         }
 
@@ -325,6 +462,670 @@ public final class MqttFunctions
             abortEx.buffer().getBytes(abortEx.offset(), array);
             return array;
         }
+
+        private MqttAbortExBuilder reset()
+        {
+            abortExRW.wrap(writeBuffer, 0, writeBuffer.capacity());
+            return this;
+        }
+    }
+
+    public static final class MqttSessionStateBuilder
+    {
+        private final MutableDirectBuffer writeBuffer;
+        private final MqttSessionStateFW.Builder sessionRW;
+
+        private MqttSessionStateBuilder()
+        {
+            this.writeBuffer = new UnsafeBuffer(new byte[1024 * 8]);
+            this.sessionRW = new MqttSessionStateFW.Builder().wrap(writeBuffer, 0, writeBuffer.capacity());
+        }
+
+        public MqttSessionStateBuilder expiryInterval(
+            int expiryInterval)
+        {
+            sessionRW.expiryInterval(expiryInterval);
+            return this;
+        }
+
+        public MqttSessionStateBuilder expiresAt(
+            long expiresAt)
+        {
+            sessionRW.expiresAt(expiresAt);
+            return this;
+        }
+
+        public MqttSessionStateBuilder subscription(
+            String pattern,
+            int subscriptionId,
+            String... flags)
+        {
+            sessionRW.subscriptionsItem(f -> f.pattern(pattern)
+                                              .subscriptionId(subscriptionId)
+                                              .flags(subscribeFlags(flags)));
+            return this;
+        }
+
+        public MqttSessionStateBuilder will(
+            String topic,
+            int delay,
+            String qos,
+            String payload,
+            String... flags)
+        {
+            sessionRW.will(w -> sessionWill(w, topic, delay, qos, payload, flags));
+            return this;
+        }
+
+        public MqttSessionStateBuilder inflight(
+            int packetId,
+            String qos)
+        {
+            sessionRW.inflightItem(i -> i.packetId(packetId)
+                                         .qos(q -> q.set(MqttQoS.valueOf(qos))));
+            return this;
+        }
+
+        public byte[] build()
+        {
+            final MqttSessionStateFW session = sessionRW.build();
+            final byte[] array = new byte[session.sizeof()];
+            session.buffer().getBytes(session.offset(), array);
+            return array;
+        }
+
+        private MqttSessionStateBuilder reset()
+        {
+            sessionRW.wrap(writeBuffer, 0, writeBuffer.capacity());
+            return this;
+        }
+    }
+
+    public static final class MqttRetainedSnapshotBuilder
+    {
+        private final MutableDirectBuffer writeBuffer;
+        private final MqttRetainedSnapshotFW.Builder retainedRW;
+
+        private MqttRetainedSnapshotBuilder()
+        {
+            this.writeBuffer = new UnsafeBuffer(new byte[1024 * 8]);
+            this.retainedRW = new MqttRetainedSnapshotFW.Builder().wrap(writeBuffer, 0, writeBuffer.capacity());
+        }
+
+        public MqttRetainedSnapshotBuilder sequence(
+            long sequence)
+        {
+            retainedRW.sequence(sequence);
+            return this;
+        }
+
+        public MqttRetainedSnapshotBuilder count(
+            int count)
+        {
+            retainedRW.count(count);
+            return this;
+        }
+
+        public MqttRetainedSnapshotBuilder evicted(
+            int evicted)
+        {
+            retainedRW.evicted(evicted);
+            return this;
+        }
+
+        public byte[] build()
+        {
+            final MqttRetainedSnapshotFW retained = retainedRW.build();
+            final byte[] array = new byte[retained.sizeof()];
+            retained.buffer().getBytes(retained.offset(), array);
+            return array;
+        }
+
+        private MqttRetainedSnapshotBuilder reset()
+        {
+            retainedRW.wrap(writeBuffer, 0, writeBuffer.capacity());
+            return this;
+        }
+    }
+
+    public static final class MqttBeginExMatcherBuilder
+    {
+        private final DirectBuffer bufferRO = new UnsafeBuffer();
+        private final MqttBeginExFW beginExRO = new MqttBeginExFW();
+        private final MqttArrayMatcher<MqttTopicFilterFW.Builder, MqttTopicFilterFW> filtersRO =
+            new MqttArrayMatcher<>(MqttTopicFilterFW.Builder::new, MqttTopicFilterFW::new);
+        private final MqttArrayMatcher<MqttUserPropertyFW.Builder, MqttUserPropertyFW> propertiesRO =
+            new MqttArrayMatcher<>(MqttUserPropertyFW.Builder::new, MqttUserPropertyFW::new);
+
+        private Integer typeId;
+        private MqttCapabilities capabilities;
+        private String16FW clientId;
+        private String16FW topic;
+        private String16FW shareGroup;
+        private MqttQoS qos;
+
+        private MqttBeginExMatcherBuilder()
+        {
+        }
+
+        public MqttBeginExMatcherBuilder typeId(
+            int typeId)
+        {
+            this.typeId = typeId;
+            return this;
+        }
+
+        public MqttBeginExMatcherBuilder capabilities(
+            String capabilities)
+        {
+            this.capabilities = MqttCapabilities.valueOf(capabilities);
+            return this;
+        }
+
+        public MqttBeginExMatcherBuilder clientId(
+            String clientId)
+        {
+            this.clientId = new String16FW(clientId);
+            return this;
+        }
+
+        public MqttBeginExMatcherBuilder topic(
+            String topic)
+        {
+            this.topic = new String16FW(topic);
+            return this;
+        }
+
+        public MqttBeginExMatcherBuilder shareGroup(
+            String shareGroup)
+        {
+            this.shareGroup = new String16FW(shareGroup);
+            return this;
+        }
+
+        public MqttBeginExMatcherBuilder qos(
+            String qos)
+        {
+            this.qos = MqttQoS.valueOf(qos);
+            return this;
+        }
+
+        public MqttBeginExMatcherBuilder filter(
+            String pattern,
+            int subscriptionId,
+            String... flags)
+        {
+            filtersRO.item(f -> f.pattern(pattern).subscriptionId(subscriptionId).flags(subscribeFlags(flags)));
+            return this;
+        }
+
+        public MqttBeginExMatcherBuilder userProperty(
+            String name,
+            String value)
+        {
+            propertiesRO.item(p -> p.key(name).value(value));
+            return this;
+        }
+
+        public BytesMatcher build()
+        {
+            return typeId != null ? this::match : buf -> null;
+        }
+
+        private MqttBeginExFW match(
+            ByteBuffer byteBuf) throws Exception
+        {
+            if (!byteBuf.hasRemaining())
+            {
+                return null;
+            }
+
+            bufferRO.wrap(byteBuf);
+            final MqttBeginExFW beginEx = beginExRO.tryWrap(bufferRO, byteBuf.position(), byteBuf.limit());
+
+            if (beginEx != null &&
+                typeId == beginEx.typeId() &&
+                (capabilities == null || capabilities == beginEx.capabilities().get()) &&
+                (clientId == null || clientId.equals(beginEx.clientId())) &&
+                (topic == null || topic.equals(beginEx.topic())) &&
+                (shareGroup == null || shareGroup.equals(beginEx.shareGroup())) &&
+                (qos == null || qos == beginEx.qos().get()) &&
+                filtersRO.matches(beginEx.filters()) &&
+                propertiesRO.matches(beginEx.properties()))
+            {
+                byteBuf.position(byteBuf.position() + beginEx.sizeof());
+                return beginEx;
+            }
+
+            throw new Exception(String.valueOf(beginEx));
+        }
+    }
+
+    public static final class MqttDataExMatcherBuilder
+    {
+        private final DirectBuffer bufferRO = new UnsafeBuffer();
+        private final MqttDataExFW dataExRO = new MqttDataExFW();
+        private final MqttArrayMatcher<Varbyteuint32FW.Builder, Varbyteuint32FW> subscriptionIdsRO =
+            new MqttArrayMatcher<>(Varbyteuint32FW.Builder::new, Varbyteuint32FW::new);
+        private final MqttArrayMatcher<MqttUserPropertyFW.Builder, MqttUserPropertyFW> propertiesRO =
+            new MqttArrayMatcher<>(MqttUserPropertyFW.Builder::new, MqttUserPropertyFW::new);
+
+        private Integer typeId;
+        private Integer deferred;
+        private String16FW topic;
+        private Integer flags;
+        private MqttQoS qos;
+        private Integer packetId;
+        private Integer expiryInterval;
+        private String16FW contentType;
+        private MqttPayloadFormat format;
+        private String16FW responseTopic;
+        private OctetsFW correlation;
+
+        private MqttDataExMatcherBuilder()
+        {
+        }
+
+        public MqttDataExMatcherBuilder typeId(
+            int typeId)
+        {
+            this.typeId = typeId;
+            return this;
+        }
+
+        public MqttDataExMatcherBuilder deferred(
+            int deferred)
+        {
+            this.deferred = deferred;
+            return this;
+        }
+
+        public MqttDataExMatcherBuilder topic(
+            String topic)
+        {
+            this.topic = new String16FW(topic);
+            return this;
+        }
+
+        public MqttDataExMatcherBuilder flags(
+            String... flags)
+        {
+            this.flags = publishFlags(flags);
+            return this;
+        }
+
+        public MqttDataExMatcherBuilder qos(
+            String qos)
+        {
+            this.qos = MqttQoS.valueOf(qos);
+            return this;
+        }
+
+        public MqttDataExMatcherBuilder packetId(
+            int packetId)
+        {
+            this.packetId = packetId;
+            return this;
+        }
+
+        public MqttDataExMatcherBuilder subscriptionId(
+            int subscriptionId)
+        {
+            subscriptionIdsRO.item(i -> i.set(subscriptionId));
+            return this;
+        }
+
+        public MqttDataExMatcherBuilder expiryInterval(
+            int expiryInterval)
+        {
+            this.expiryInterval = expiryInterval;
+            return this;
+        }
+
+        public MqttDataExMatcherBuilder contentType(
+            String contentType)
+        {
+            this.contentType = new String16FW(contentType);
+            return this;
+        }
+
+        public MqttDataExMatcherBuilder format(
+            String format)
+        {
+            this.format = MqttPayloadFormat.valueOf(format);
+            return this;
+        }
+
+        public MqttDataExMatcherBuilder responseTopic(
+            String responseTopic)
+        {
+            this.responseTopic = new String16FW(responseTopic);
+            return this;
+        }
+
+        public MqttDataExMatcherBuilder correlation(
+            String correlation)
+        {
+            return correlationBytes(correlation.getBytes(UTF_8));
+        }
+
+        public MqttDataExMatcherBuilder correlationBytes(
+            byte[] correlation)
+        {
+            this.correlation = new OctetsFW().wrap(new UnsafeBuffer(correlation), 0, correlation.length);
+            return this;
+        }
+
+        public MqttDataExMatcherBuilder userProperty(
+            String name,
+            String value)
+        {
+            propertiesRO.item(p -> p.key(name).value(value));
+            return this;
+        }
+
+        public BytesMatcher build()
+        {
+            return typeId != null ? this::match : buf -> null;
+        }
+
+        private MqttDataExFW match(
+            ByteBuffer byteBuf) throws Exception
+        {
+            if (!byteBuf.hasRemaining())
+            {
+                return null;
+            }
+
+            bufferRO.wrap(byteBuf);
+            final MqttDataExFW dataEx = dataExRO.tryWrap(bufferRO, byteBuf.position(), byteBuf.limit());
+
+            if (dataEx != null &&
+                typeId == dataEx.typeId() &&
+                (deferred == null || deferred == dataEx.deferred()) &&
+                (topic == null || topic.equals(dataEx.topic())) &&
+                (flags == null || flags == dataEx.flags()) &&
+                (qos == null || qos == dataEx.qos().get()) &&
+                (packetId == null || packetId == dataEx.packetId()) &&
+                subscriptionIdsRO.matches(dataEx.subscriptionIds()) &&
+                (expiryInterval == null || expiryInterval == dataEx.expiryInterval()) &&
+                (contentType == null || contentType.equals(dataEx.contentType())) &&
+                (format == null || format == dataEx.format().get()) &&
+                (responseTopic == null || responseTopic.equals(dataEx.responseTopic())) &&
+                (correlation == null || correlation.equals(dataEx.correlation().bytes())) &&
+                propertiesRO.matches(dataEx.properties()))
+            {
+                byteBuf.position(byteBuf.position() + dataEx.sizeof());
+                return dataEx;
+            }
+
+            throw new Exception(String.valueOf(dataEx));
+        }
+    }
+
+    public static final class MqttFlushExMatcherBuilder
+    {
+        private final DirectBuffer bufferRO = new UnsafeBuffer();
+        private final MqttFlushExFW flushExRO = new MqttFlushExFW();
+        private final MqttArrayMatcher<MqttTopicFilterFW.Builder, MqttTopicFilterFW> filtersRO =
+            new MqttArrayMatcher<>(MqttTopicFilterFW.Builder::new, MqttTopicFilterFW::new);
+        private final MqttArrayMatcher<String16FW.Builder, String16FW> unsubscribesRO =
+            new MqttArrayMatcher<>(String16FW.Builder::new, String16FW::new);
+
+        private Integer typeId;
+        private Integer flags;
+        private MqttCapabilities capabilities;
+
+        private MqttFlushExMatcherBuilder()
+        {
+        }
+
+        public MqttFlushExMatcherBuilder typeId(
+            int typeId)
+        {
+            this.typeId = typeId;
+            return this;
+        }
+
+        public MqttFlushExMatcherBuilder flags(
+            String... flags)
+        {
+            this.flags = subscribeFlags(flags);
+            return this;
+        }
+
+        public MqttFlushExMatcherBuilder capabilities(
+            String capabilities)
+        {
+            this.capabilities = MqttCapabilities.valueOf(capabilities);
+            return this;
+        }
+
+        public MqttFlushExMatcherBuilder filter(
+            String pattern,
+            int subscriptionId,
+            String... flags)
+        {
+            filtersRO.item(f -> f.pattern(pattern).subscriptionId(subscriptionId).flags(subscribeFlags(flags)));
+            return this;
+        }
+
+        public MqttFlushExMatcherBuilder unsubscribe(
+            String pattern)
+        {
+            unsubscribesRO.item(p -> p.set(pattern, UTF_8));
+            return this;
+        }
+
+        public BytesMatcher build()
+        {
+            return typeId != null ? this::match : buf -> null;
+        }
+
+        private MqttFlushExFW match(
+            ByteBuffer byteBuf) throws Exception
+        {
+            if (!byteBuf.hasRemaining())
+            {
+                return null;
+            }
+
+            bufferRO.wrap(byteBuf);
+            final MqttFlushExFW flushEx = flushExRO.tryWrap(bufferRO, byteBuf.position(), byteBuf.limit());
+
+            if (flushEx != null &&
+                typeId == flushEx.typeId() &&
+                (flags == null || flags == flushEx.flags()) &&
+                (capabilities == null || capabilities == flushEx.capabilities().get()) &&
+                filtersRO.matches(flushEx.filters()) &&
+                unsubscribesRO.matches(flushEx.unsubscribes()))
+            {
+                byteBuf.position(byteBuf.position() + flushEx.sizeof());
+                return flushEx;
+            }
+
+            throw new Exception(String.valueOf(flushEx));
+        }
+    }
+
+    public static final class MqttSessionStateMatcherBuilder
+    {
+        private final DirectBuffer bufferRO = new UnsafeBuffer();
+        private final MqttSessionStateFW sessionRO = new MqttSessionStateFW();
+        private final MqttArrayMatcher<MqttTopicFilterFW.Builder, MqttTopicFilterFW> subscriptionsRO =
+            new MqttArrayMatcher<>(MqttTopicFilterFW.Builder::new, MqttTopicFilterFW::new);
+        private final MqttArrayMatcher<MqttInflightFW.Builder, MqttInflightFW> inflightRO =
+            new MqttArrayMatcher<>(MqttInflightFW.Builder::new, MqttInflightFW::new);
+
+        private Integer expiryInterval;
+        private Long expiresAt;
+        private MqttSessionWillFW will;
+
+        private MqttSessionStateMatcherBuilder()
+        {
+        }
+
+        public MqttSessionStateMatcherBuilder expiryInterval(
+            int expiryInterval)
+        {
+            this.expiryInterval = expiryInterval;
+            return this;
+        }
+
+        public MqttSessionStateMatcherBuilder expiresAt(
+            long expiresAt)
+        {
+            this.expiresAt = expiresAt;
+            return this;
+        }
+
+        public MqttSessionStateMatcherBuilder subscription(
+            String pattern,
+            int subscriptionId,
+            String... flags)
+        {
+            subscriptionsRO.item(f -> f.pattern(pattern).subscriptionId(subscriptionId).flags(subscribeFlags(flags)));
+            return this;
+        }
+
+        public MqttSessionStateMatcherBuilder will(
+            String topic,
+            int delay,
+            String qos,
+            String payload,
+            String... flags)
+        {
+            final MutableDirectBuffer buffer = new UnsafeBuffer(new byte[1024 * 8]);
+            final MqttSessionWillFW.Builder willRW = new MqttSessionWillFW.Builder().wrap(buffer, 0, buffer.capacity());
+            this.will = sessionWill(willRW, topic, delay, qos, payload, flags).build();
+            return this;
+        }
+
+        public MqttSessionStateMatcherBuilder inflight(
+            int packetId,
+            String qos)
+        {
+            inflightRO.item(i -> i.packetId(packetId).qos(q -> q.set(MqttQoS.valueOf(qos))));
+            return this;
+        }
+
+        public BytesMatcher build()
+        {
+            return this::match;
+        }
+
+        private MqttSessionStateFW match(
+            ByteBuffer byteBuf) throws Exception
+        {
+            if (!byteBuf.hasRemaining())
+            {
+                return null;
+            }
+
+            bufferRO.wrap(byteBuf);
+            final MqttSessionStateFW session = sessionRO.tryWrap(bufferRO, byteBuf.position(), byteBuf.limit());
+
+            if (session != null &&
+                (expiryInterval == null || expiryInterval == session.expiryInterval()) &&
+                (expiresAt == null || expiresAt == session.expiresAt()) &&
+                subscriptionsRO.matches(session.subscriptions()) &&
+                (will == null || will.equals(session.will())) &&
+                inflightRO.matches(session.inflight()))
+            {
+                byteBuf.position(byteBuf.position() + session.sizeof());
+                return session;
+            }
+
+            throw new Exception(String.valueOf(session));
+        }
+    }
+
+    private static final class MqttArrayMatcher<B extends Flyweight.Builder<T>, T extends Flyweight>
+    {
+        private final Supplier<B> itemRW;
+        private final Supplier<T> itemRO;
+
+        private Array32FW.Builder<B, T> arrayRW;
+        private Array32FW<T> array;
+
+        private MqttArrayMatcher(
+            Supplier<B> itemRW,
+            Supplier<T> itemRO)
+        {
+            this.itemRW = itemRW;
+            this.itemRO = itemRO;
+        }
+
+        private void item(
+            Consumer<B> mutator)
+        {
+            if (arrayRW == null)
+            {
+                final MutableDirectBuffer buffer = new UnsafeBuffer(new byte[1024 * 8]);
+                arrayRW = new Array32FW.Builder<>(itemRW.get(), itemRO.get()).wrap(buffer, 0, buffer.capacity());
+            }
+            arrayRW.item(mutator);
+        }
+
+        private boolean matches(
+            Array32FW<T> actual)
+        {
+            if (arrayRW != null && array == null)
+            {
+                array = arrayRW.build();
+            }
+            return array == null || array.equals(actual);
+        }
+    }
+
+    public static final class MqttReusableBuilders
+    {
+        private final MqttBeginExBuilder beginExRW;
+        private final MqttDataExBuilder dataExRW;
+        private final MqttFlushExBuilder flushExRW;
+        private final MqttAbortExBuilder abortExRW;
+        private final MqttSessionStateBuilder sessionRW;
+        private final MqttRetainedSnapshotBuilder retainedRW;
+
+        private MqttReusableBuilders()
+        {
+            this.beginExRW = new MqttBeginExBuilder();
+            this.dataExRW = new MqttDataExBuilder();
+            this.flushExRW = new MqttFlushExBuilder();
+            this.abortExRW = new MqttAbortExBuilder();
+            this.sessionRW = new MqttSessionStateBuilder();
+            this.retainedRW = new MqttRetainedSnapshotBuilder();
+        }
+
+        public MqttBeginExBuilder beginEx()
+        {
+            return beginExRW.reset();
+        }
+
+        public MqttDataExBuilder dataEx()
+        {
+            return dataExRW.reset();
+        }
+
+        public MqttFlushExBuilder flushEx()
+        {
+            return flushExRW.reset();
+        }
+
+        public MqttAbortExBuilder abortEx()
+        {
+            return abortExRW.reset();
+        }
+
+        public MqttSessionStateBuilder session()
+        {
+            return sessionRW.reset();
+        }
+
+        public MqttRetainedSnapshotBuilder retained()
+        {
+            return retainedRW.reset();
+        }
     }
 
     public static class Mapper extends FunctionMapperSpi.Reflective
@@ -341,6 +1142,52 @@ public final class MqttFunctions
         }
     }
 
+    private static int subscribeFlags(
+        String... flags)
+    {
+        int subscribeFlags = 0;
+        for (int i = 0; i < flags.length; i++)
+        {
+            subscribeFlags |= 1 << MqttSubscribeFlags.valueOf(flags[i]).ordinal();
+        }
+
+        final int sendRetained = 1 << MqttSubscribeFlags.SEND_RETAINED.ordinal();
+        final int sendRetainedIfNew = 1 << MqttSubscribeFlags.SEND_RETAINED_IF_NEW.ordinal();
+        if ((subscribeFlags & (sendRetained | sendRetainedIfNew)) == sendRetainedIfNew)
+        {
+            throw new IllegalArgumentException("SEND_RETAINED_IF_NEW requires SEND_RETAINED");
+        }
+
+        return subscribeFlags;
+    }
+
+    private static int publishFlags(
+        String... flags)
+    {
+        int publishFlags = 0;
+        for (int i = 0; i < flags.length; i++)
+        {
+            publishFlags |= 1 << MqttPublishFlags.valueOf(flags[i]).ordinal();
+        }
+        return publishFlags;
+    }
+
+    private static MqttSessionWillFW.Builder sessionWill(
+        MqttSessionWillFW.Builder willRW,
+        String topic,
+        int delay,
+        String qos,
+        String payload,
+        String... flags)
+    {
+        final byte[] bytes = payload.getBytes(UTF_8);
+        return willRW.topic(topic)
+                     .delay(delay)
+                     .qos(q -> q.set(MqttQoS.valueOf(qos)))
+                     .flags(publishFlags(flags))
+                     .payload(p -> p.bytes(b -> b.set(bytes)));
+    }
+
     private MqttFunctions()
     {
         /* utility */
@@ -0,0 +1,146 @@
+/**
+ * Copyright 2016-2021 The Reaktivity Project
+ *
+ * The Reaktivity Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package org.reaktivity.specification.nukleus.mqtt.internal;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.reaktivity.specification.mqtt.internal.MqttFunctions;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(3)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+public class MqttFunctionsBenchmark
+{
+    @Benchmark
+    public byte[] beginEx()
+    {
+        return MqttFunctions.beginEx()
+                            .typeId(0x01)
+                            .capabilities("SUBSCRIBE_ONLY")
+                            .clientId("client")
+                            .filter("sensor/one", 1, "SEND_RETAINED")
+                            .build();
+    }
+
+    @Benchmark
+    public byte[] reusableBeginEx()
+    {
+        return MqttFunctions.reusable()
+                            .beginEx()
+                            .typeId(0x01)
+                            .capabilities("SUBSCRIBE_ONLY")
+                            .clientId("client")
+                            .filter("sensor/one", 1, "SEND_RETAINED")
+                            .build();
+    }
+
+    @Benchmark
+    public byte[] dataEx()
+    {
+        return MqttFunctions.dataEx()
+                            .typeId(0x01)
+                            .topic("sensor/one")
+                            .expiryInterval(15)
+                            .contentType("message")
+                            .format("TEXT")
+                            .responseTopic("sensor/one")
+                            .correlation("info")
+                            .build();
+    }
+
+    @Benchmark
+    public byte[] reusableDataEx()
+    {
+        return MqttFunctions.reusable()
+                            .dataEx()
+                            .typeId(0x01)
+                            .topic("sensor/one")
+                            .expiryInterval(15)
+                            .contentType("message")
+                            .format("TEXT")
+                            .responseTopic("sensor/one")
+                            .correlation("info")
+                            .build();
+    }
+
+    @Benchmark
+    public byte[] flushEx()
+    {
+        return MqttFunctions.flushEx()
+                            .typeId(0x01)
+                            .flags("SEND_RETAINED")
+                            .capabilities("PUBLISH_AND_SUBSCRIBE")
+                            .build();
+    }
+
+    @Benchmark
+    public byte[] reusableFlushEx()
+    {
+        return MqttFunctions.reusable()
+                            .flushEx()
+                            .typeId(0x01)
+                            .flags("SEND_RETAINED")
+                            .capabilities("PUBLISH_AND_SUBSCRIBE")
+                            .build();
+    }
+
+    @Benchmark
+    public byte[] abortEx()
+    {
+        return MqttFunctions.abortEx()
+                            .typeId(0x01)
+                            .reason(0x87)
+                            .build();
+    }
+
+    @Benchmark
+    public byte[] reusableAbortEx()
+    {
+        return MqttFunctions.reusable()
+                            .abortEx()
+                            .typeId(0x01)
+                            .reason(0x87)
+                            .build();
+    }
+
+    public static void main(
+        String[] args) throws RunnerException
+    {
+        Options opt = new OptionsBuilder()
+                .include(MqttFunctionsBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build();
+
+        new Runner(opt).run();
+    }
+}
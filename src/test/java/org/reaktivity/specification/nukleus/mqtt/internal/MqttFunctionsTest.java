@@ -19,14 +19,19 @@ import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertNull;
 
+import java.nio.ByteBuffer;
 import java.util.Objects;
 
 import org.agrona.DirectBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
 import org.junit.Test;
+import org.kaazing.k3po.lang.el.BytesMatcher;
 import org.reaktivity.specification.mqtt.internal.MqttFunctions;
+import org.reaktivity.specification.mqtt.internal.types.MqttRetainedSnapshotFW;
+import org.reaktivity.specification.mqtt.internal.types.MqttSessionStateFW;
 import org.reaktivity.specification.mqtt.internal.types.stream.MqttAbortExFW;
 import org.reaktivity.specification.mqtt.internal.types.stream.MqttBeginExFW;
 import org.reaktivity.specification.mqtt.internal.types.stream.MqttDataExFW;
@@ -49,6 +54,13 @@ public class MqttFunctionsTest
         assertArrayEquals(bytes, expected);
     }
 
+    @Test
+    public void shouldGenerateRandomBytes()
+    {
+        final byte[] bytes = MqttFunctions.randomBytes(42);
+        assertEquals(42, bytes.length);
+    }
+
     @Test
     public void shouldEncodeMqttBeginExtAsSubscribe()
     {
@@ -56,8 +68,7 @@ public class MqttFunctionsTest
                 .typeId(0)
                 .capabilities("SUBSCRIBE_ONLY")
                 .clientId("client")
-                .topic("sensor/one")
-                .subscriptionId(1)
+                .filter("sensor/one", 1)
                 .build();
 
         DirectBuffer buffer = new UnsafeBuffer(array);
@@ -65,8 +76,10 @@ public class MqttFunctionsTest
 
         assertEquals("SUBSCRIBE_ONLY", mqttBeginEx.capabilities().toString());
         assertEquals("client", mqttBeginEx.clientId().asString());
-        assertEquals("sensor/one", mqttBeginEx.topic().asString());
-        assertEquals(1, mqttBeginEx.subscriptionId());
+        assertNull(mqttBeginEx.topic().asString());
+        assertNotNull(mqttBeginEx.filters()
+                                 .matchFirst(f -> "sensor/one".equals(f.pattern().asString()) &&
+                                                  1 == f.subscriptionId()));
     }
 
     @Test
@@ -76,9 +89,7 @@ public class MqttFunctionsTest
                                           .typeId(0)
                                           .capabilities("SUBSCRIBE_ONLY")
                                           .clientId("client")
-                                          .topic("sensor/one")
-                                          .flags("SEND_RETAINED")
-                                          .subscriptionId(1)
+                                          .filter("sensor/one", 1, "SEND_RETAINED")
                                           .build();
 
         DirectBuffer buffer = new UnsafeBuffer(array);
@@ -86,9 +97,129 @@ public class MqttFunctionsTest
 
         assertEquals("SUBSCRIBE_ONLY", mqttBeginEx.capabilities().toString());
         assertEquals("client", mqttBeginEx.clientId().asString());
-        assertEquals("sensor/one", mqttBeginEx.topic().asString());
-        assertEquals(0b01, mqttBeginEx.flags());
-        assertEquals(1, mqttBeginEx.subscriptionId());
+        assertNotNull(mqttBeginEx.filters()
+                                 .matchFirst(f -> "sensor/one".equals(f.pattern().asString()) &&
+                                                  1 == f.subscriptionId() &&
+                                                  0b01 == f.flags()));
+    }
+
+    @Test
+    public void shouldEncodeMqttBeginExtAsSubscribeWithConflateFlag()
+    {
+        final byte[] array = MqttFunctions.beginEx()
+                                          .typeId(0)
+                                          .capabilities("SUBSCRIBE_ONLY")
+                                          .clientId("client")
+                                          .filter("sensor/+", 1, "SEND_RETAINED", "CONFLATE")
+                                          .build();
+
+        DirectBuffer buffer = new UnsafeBuffer(array);
+        MqttBeginExFW mqttBeginEx = new MqttBeginExFW().wrap(buffer, 0, buffer.capacity());
+
+        assertEquals("SUBSCRIBE_ONLY", mqttBeginEx.capabilities().toString());
+        assertNotNull(mqttBeginEx.filters()
+                                 .matchFirst(f -> "sensor/+".equals(f.pattern().asString()) &&
+                                                  1 == f.subscriptionId() &&
+                                                  0b1001 == f.flags()));
+    }
+
+    @Test
+    public void shouldEncodeMqttBeginExtAsSubscribeWithRetainHandling()
+    {
+        final byte[] array = MqttFunctions.beginEx()
+                                          .typeId(0)
+                                          .capabilities("SUBSCRIBE_ONLY")
+                                          .clientId("client")
+                                          .filter("sensor/one", 1, "SEND_RETAINED", "SEND_RETAINED_IF_NEW")
+                                          .filter("sensor/two", 2)
+                                          .build();
+
+        DirectBuffer buffer = new UnsafeBuffer(array);
+        MqttBeginExFW mqttBeginEx = new MqttBeginExFW().wrap(buffer, 0, buffer.capacity());
+
+        assertEquals("SUBSCRIBE_ONLY", mqttBeginEx.capabilities().toString());
+        assertNotNull(mqttBeginEx.filters()
+                                 .matchFirst(f -> "sensor/one".equals(f.pattern().asString()) &&
+                                                  1 == f.subscriptionId() &&
+                                                  0b10001 == f.flags()));
+        assertNotNull(mqttBeginEx.filters()
+                                 .matchFirst(f -> "sensor/two".equals(f.pattern().asString()) &&
+                                                  2 == f.subscriptionId() &&
+                                                  0 == f.flags()));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRejectSendRetainedIfNewWithoutSendRetained()
+    {
+        MqttFunctions.beginEx()
+                     .typeId(0)
+                     .capabilities("SUBSCRIBE_ONLY")
+                     .clientId("client")
+                     .filter("sensor/one", 1, "SEND_RETAINED_IF_NEW")
+                     .build();
+    }
+
+    @Test
+    public void shouldEncodeMqttBeginExtAsSubscribeWithQoS()
+    {
+        final byte[] array = MqttFunctions.beginEx()
+                                          .typeId(0)
+                                          .capabilities("SUBSCRIBE_ONLY")
+                                          .clientId("client")
+                                          .qos("AT_LEAST_ONCE")
+                                          .filter("sensor/one", 1, "SEND_RETAINED")
+                                          .build();
+
+        DirectBuffer buffer = new UnsafeBuffer(array);
+        MqttBeginExFW mqttBeginEx = new MqttBeginExFW().wrap(buffer, 0, buffer.capacity());
+
+        assertEquals("SUBSCRIBE_ONLY", mqttBeginEx.capabilities().toString());
+        assertEquals("AT_LEAST_ONCE", mqttBeginEx.qos().toString());
+        assertEquals(1, mqttBeginEx.filters().fieldCount());
+    }
+
+    @Test
+    public void shouldEncodeMqttBeginExtAsSubscribeWithShareGroup()
+    {
+        final byte[] array = MqttFunctions.beginEx()
+                                          .typeId(0)
+                                          .capabilities("SUBSCRIBE_ONLY")
+                                          .clientId("client")
+                                          .shareGroup("group")
+                                          .filter("sensor/one", 1)
+                                          .build();
+
+        DirectBuffer buffer = new UnsafeBuffer(array);
+        MqttBeginExFW mqttBeginEx = new MqttBeginExFW().wrap(buffer, 0, buffer.capacity());
+
+        assertEquals("SUBSCRIBE_ONLY", mqttBeginEx.capabilities().toString());
+        assertEquals("group", mqttBeginEx.shareGroup().asString());
+        assertEquals(1, mqttBeginEx.filters().fieldCount());
+    }
+
+    @Test
+    public void shouldEncodeMqttBeginExtAsSubscribeWithFilters()
+    {
+        final byte[] array = MqttFunctions.beginEx()
+                                          .typeId(0)
+                                          .capabilities("SUBSCRIBE_ONLY")
+                                          .clientId("client")
+                                          .filter("sensor/#", 1)
+                                          .filter("sensor/one", 2, "SEND_RETAINED", "NO_LOCAL")
+                                          .build();
+
+        DirectBuffer buffer = new UnsafeBuffer(array);
+        MqttBeginExFW mqttBeginEx = new MqttBeginExFW().wrap(buffer, 0, buffer.capacity());
+
+        assertNull(mqttBeginEx.topic().asString());
+        assertEquals(2, mqttBeginEx.filters().fieldCount());
+        assertNotNull(mqttBeginEx.filters()
+                                 .matchFirst(f -> "sensor/#".equals(f.pattern().asString()) &&
+                                                  1 == f.subscriptionId()));
+        assertNotNull(mqttBeginEx.filters()
+                                 .matchFirst(f -> "sensor/one".equals(f.pattern().asString()) &&
+                                                  2 == f.subscriptionId() &&
+                                                  0b101 == f.flags()));
     }
 
     @Test
@@ -99,7 +230,6 @@ public class MqttFunctionsTest
                 .capabilities("PUBLISH_ONLY")
                 .clientId("client")
                 .topic("sensor/one")
-                .subscriptionId(1)
                 .userProperty("name", "value")
                 .build();
 
@@ -109,7 +239,6 @@ public class MqttFunctionsTest
         assertEquals("PUBLISH_ONLY", mqttBeginEx.capabilities().toString());
         assertEquals("client", mqttBeginEx.clientId().asString());
         assertEquals("sensor/one", mqttBeginEx.topic().asString());
-        assertEquals(1, mqttBeginEx.subscriptionId());
         assertNotNull(mqttBeginEx.properties()
                                 .matchFirst(h ->
                                                 "name".equals(h.key().asString()) &&
@@ -124,7 +253,6 @@ public class MqttFunctionsTest
                 .capabilities("PUBLISH_ONLY")
                 .clientId("client")
                 .topic("sensor/one")
-                .subscriptionId(1)
                 .userProperty("name", null)
                 .build();
 
@@ -134,7 +262,6 @@ public class MqttFunctionsTest
         assertEquals("PUBLISH_ONLY", mqttBeginEx.capabilities().toString());
         assertEquals("client", mqttBeginEx.clientId().asString());
         assertEquals("sensor/one", mqttBeginEx.topic().asString());
-        assertEquals(1, mqttBeginEx.subscriptionId());
         assertNotNull(mqttBeginEx.properties()
                                  .matchFirst(h ->
                                                  "name".equals(h.key().asString()) &&
@@ -188,6 +315,49 @@ public class MqttFunctionsTest
         assertEquals("SUBSCRIBE_ONLY", mqttFlushEx.capabilities().toString());
     }
 
+    @Test
+    public void shouldEncodeMqttFlushExWithFilters()
+    {
+        final byte[] array = MqttFunctions.flushEx()
+                .typeId(0)
+                .capabilities("SUBSCRIBE_ONLY")
+                .filter("sensor/one", 1, "SEND_RETAINED")
+                .filter("sensor/two", 1)
+                .build();
+
+        DirectBuffer buffer = new UnsafeBuffer(array);
+        MqttFlushExFW mqttFlushEx = new MqttFlushExFW().wrap(buffer, 0, buffer.capacity());
+
+        assertEquals(2, mqttFlushEx.filters().fieldCount());
+        assertNotNull(mqttFlushEx.filters()
+                                 .matchFirst(f -> "sensor/one".equals(f.pattern().asString()) &&
+                                                  1 == f.subscriptionId() &&
+                                                  0b01 == f.flags()));
+        assertNotNull(mqttFlushEx.filters()
+                                 .matchFirst(f -> "sensor/two".equals(f.pattern().asString()) &&
+                                                  1 == f.subscriptionId() &&
+                                                  0 == f.flags()));
+    }
+
+    @Test
+    public void shouldEncodeMqttFlushExWithUnsubscribes()
+    {
+        final byte[] array = MqttFunctions.flushEx()
+                .typeId(0)
+                .capabilities("SUBSCRIBE_ONLY")
+                .filter("device/one", 2, "SEND_RETAINED")
+                .unsubscribe("sensor/two")
+                .build();
+
+        DirectBuffer buffer = new UnsafeBuffer(array);
+        MqttFlushExFW mqttFlushEx = new MqttFlushExFW().wrap(buffer, 0, buffer.capacity());
+
+        assertEquals(1, mqttFlushEx.filters().fieldCount());
+        assertEquals(1, mqttFlushEx.unsubscribes().fieldCount());
+        assertNotNull(mqttFlushEx.unsubscribes()
+                                 .matchFirst(p -> "sensor/two".equals(p.asString())));
+    }
+
     @Test
     public void shouldEncodeMqttDataExWithUserProperty()
     {
@@ -225,6 +395,61 @@ public class MqttFunctionsTest
         assertEquals(0b01, mqttDataEx.flags());
     }
 
+    @Test
+    public void shouldEncodeMqttDataExWithDeferred()
+    {
+        final byte[] array = MqttFunctions.dataEx()
+                                          .typeId(0)
+                                          .deferred(57344)
+                                          .topic("sensor/one")
+                                          .build();
+
+        DirectBuffer buffer = new UnsafeBuffer(array);
+        MqttDataExFW mqttDataEx = new MqttDataExFW().wrap(buffer, 0, buffer.capacity());
+
+        assertEquals(0, mqttDataEx.typeId());
+        assertEquals(57344, mqttDataEx.deferred());
+        assertEquals("sensor/one", mqttDataEx.topic().asString());
+    }
+
+    @Test
+    public void shouldEncodeMqttDataExWithQoSAndPacketId()
+    {
+        final byte[] array = MqttFunctions.dataEx()
+                                          .typeId(0)
+                                          .topic("sensor/one")
+                                          .qos("AT_LEAST_ONCE")
+                                          .packetId(1)
+                                          .build();
+
+        DirectBuffer buffer = new UnsafeBuffer(array);
+        MqttDataExFW mqttDataEx = new MqttDataExFW().wrap(buffer, 0, buffer.capacity());
+
+        assertEquals(0, mqttDataEx.typeId());
+        assertEquals("sensor/one", mqttDataEx.topic().asString());
+        assertEquals("AT_LEAST_ONCE", mqttDataEx.qos().toString());
+        assertEquals(1, mqttDataEx.packetId());
+    }
+
+    @Test
+    public void shouldEncodeMqttDataExWithSubscriptionIds()
+    {
+        final byte[] array = MqttFunctions.dataEx()
+                                          .typeId(0)
+                                          .topic("sensor/one")
+                                          .subscriptionId(1)
+                                          .subscriptionId(2)
+                                          .build();
+
+        DirectBuffer buffer = new UnsafeBuffer(array);
+        MqttDataExFW mqttDataEx = new MqttDataExFW().wrap(buffer, 0, buffer.capacity());
+
+        assertEquals("sensor/one", mqttDataEx.topic().asString());
+        assertEquals(2, mqttDataEx.subscriptionIds().fieldCount());
+        assertNotNull(mqttDataEx.subscriptionIds().matchFirst(i -> 1 == i.value()));
+        assertNotNull(mqttDataEx.subscriptionIds().matchFirst(i -> 2 == i.value()));
+    }
+
     @Test
     public void shouldEncodeMqttDataExWithUserPropertyNoTopic()
     {
@@ -426,4 +651,656 @@ public class MqttFunctionsTest
         assertEquals(0, mqttAbortEx.typeId());
         assertEquals(0xf9, mqttAbortEx.reason());
     }
+
+    @Test
+    public void shouldEncodeMqttBeginExWithReusableBuilder()
+    {
+        final byte[] array = MqttFunctions.reusable()
+                                          .beginEx()
+                                          .typeId(0)
+                                          .capabilities("SUBSCRIBE_ONLY")
+                                          .clientId("client")
+                                          .filter("sensor/one", 1)
+                                          .build();
+
+        final byte[] reused = MqttFunctions.reusable()
+                                           .beginEx()
+                                           .typeId(0)
+                                           .capabilities("SUBSCRIBE_ONLY")
+                                           .clientId("client")
+                                           .filter("sensor/two", 1)
+                                           .build();
+
+        DirectBuffer buffer = new UnsafeBuffer(reused);
+        MqttBeginExFW mqttBeginEx = new MqttBeginExFW().wrap(buffer, 0, buffer.capacity());
+
+        assertNotSame(array, reused);
+        assertEquals("SUBSCRIBE_ONLY", mqttBeginEx.capabilities().toString());
+        assertEquals("client", mqttBeginEx.clientId().asString());
+        assertNotNull(mqttBeginEx.filters().matchFirst(f -> "sensor/two".equals(f.pattern().asString())));
+
+        DirectBuffer original = new UnsafeBuffer(array);
+        MqttBeginExFW originalBeginEx = new MqttBeginExFW().wrap(original, 0, original.capacity());
+
+        assertNotNull(originalBeginEx.filters().matchFirst(f -> "sensor/one".equals(f.pattern().asString())));
+    }
+
+    @Test
+    public void shouldEncodeMqttDataExWithReusableBuilder()
+    {
+        final byte[] array = MqttFunctions.reusable()
+                                          .dataEx()
+                                          .typeId(0)
+                                          .topic("sensor/one")
+                                          .build();
+
+        final byte[] reused = MqttFunctions.reusable()
+                                           .dataEx()
+                                           .typeId(0)
+                                           .topic("sensor/two")
+                                           .build();
+
+        DirectBuffer buffer = new UnsafeBuffer(reused);
+        MqttDataExFW mqttDataEx = new MqttDataExFW().wrap(buffer, 0, buffer.capacity());
+
+        assertNotSame(array, reused);
+        assertEquals(0, mqttDataEx.typeId());
+        assertEquals("sensor/two", mqttDataEx.topic().asString());
+    }
+
+    @Test
+    public void shouldEncodeMqttFlushExWithReusableBuilder()
+    {
+        final byte[] array = MqttFunctions.reusable()
+                                          .flushEx()
+                                          .typeId(0)
+                                          .flags("SEND_RETAINED")
+                                          .build();
+
+        final byte[] reused = MqttFunctions.reusable()
+                                           .flushEx()
+                                           .typeId(0)
+                                           .flags("NO_LOCAL")
+                                           .build();
+
+        DirectBuffer buffer = new UnsafeBuffer(reused);
+        MqttFlushExFW mqttFlushEx = new MqttFlushExFW().wrap(buffer, 0, buffer.capacity());
+
+        assertNotSame(array, reused);
+        assertEquals(0, mqttFlushEx.typeId());
+        assertEquals(0b100, mqttFlushEx.flags());
+    }
+
+    @Test
+    public void shouldEncodeMqttAbortExWithReusableBuilder()
+    {
+        final byte[] array = MqttFunctions.reusable()
+                                          .abortEx()
+                                          .typeId(0)
+                                          .reason(0xf9)
+                                          .build();
+
+        final byte[] reused = MqttFunctions.reusable()
+                                           .abortEx()
+                                           .typeId(0)
+                                           .reason(0x87)
+                                           .build();
+
+        DirectBuffer buffer = new UnsafeBuffer(reused);
+        MqttAbortExFW mqttAbortEx = new MqttAbortExFW().wrap(buffer, 0, buffer.capacity());
+
+        assertNotSame(array, reused);
+        assertEquals(0, mqttAbortEx.typeId());
+        assertEquals(0x87, mqttAbortEx.reason());
+    }
+
+    @Test
+    public void shouldMatchBeginEx() throws Exception
+    {
+        BytesMatcher matcher = MqttFunctions.matchBeginEx()
+                                            .typeId(0x01)
+                                            .capabilities("SUBSCRIBE_ONLY")
+                                            .clientId("client")
+                                            .topic("sensor/one")
+                                            .shareGroup("group")
+                                            .qos("AT_LEAST_ONCE")
+                                            .filter("sensor/#", 2)
+                                            .userProperty("name", "value")
+                                            .build();
+
+        ByteBuffer byteBuf = ByteBuffer.wrap(MqttFunctions.beginEx()
+                                                          .typeId(0x01)
+                                                          .capabilities("SUBSCRIBE_ONLY")
+                                                          .clientId("client")
+                                                          .topic("sensor/one")
+                                                          .shareGroup("group")
+                                                          .qos("AT_LEAST_ONCE")
+                                                          .filter("sensor/#", 2)
+                                                          .userProperty("name", "value")
+                                                          .build());
+
+        assertNotNull(matcher.match(byteBuf));
+        assertEquals(byteBuf.limit(), byteBuf.position());
+    }
+
+    @Test
+    public void shouldMatchBeginExIgnoringUnsetFields() throws Exception
+    {
+        BytesMatcher matcher = MqttFunctions.matchBeginEx()
+                                            .typeId(0x01)
+                                            .topic("sensor/one")
+                                            .build();
+
+        ByteBuffer byteBuf = ByteBuffer.wrap(MqttFunctions.beginEx()
+                                                          .typeId(0x01)
+                                                          .clientId("client")
+                                                          .topic("sensor/one")
+                                                          .userProperty("name", "value")
+                                                          .build());
+
+        assertNotNull(matcher.match(byteBuf));
+        assertEquals(byteBuf.limit(), byteBuf.position());
+    }
+
+    @Test
+    public void shouldNotMatchBeginExWithoutTypeId() throws Exception
+    {
+        BytesMatcher matcher = MqttFunctions.matchBeginEx()
+                                            .topic("sensor/one")
+                                            .build();
+
+        ByteBuffer byteBuf = ByteBuffer.wrap(MqttFunctions.beginEx()
+                                                          .typeId(0x01)
+                                                          .clientId("client")
+                                                          .topic("sensor/one")
+                                                          .build());
+
+        assertNull(matcher.match(byteBuf));
+        assertEquals(0, byteBuf.position());
+    }
+
+    @Test
+    public void shouldNotMatchEmptyBeginEx() throws Exception
+    {
+        BytesMatcher matcher = MqttFunctions.matchBeginEx()
+                                            .typeId(0x01)
+                                            .build();
+
+        assertNull(matcher.match(ByteBuffer.allocate(0)));
+    }
+
+    @Test(expected = Exception.class)
+    public void shouldFailToMatchBeginExWithDifferentTopic() throws Exception
+    {
+        BytesMatcher matcher = MqttFunctions.matchBeginEx()
+                                            .typeId(0x01)
+                                            .topic("sensor/two")
+                                            .build();
+
+        ByteBuffer byteBuf = ByteBuffer.wrap(MqttFunctions.beginEx()
+                                                          .typeId(0x01)
+                                                          .clientId("client")
+                                                          .topic("sensor/one")
+                                                          .build());
+
+        matcher.match(byteBuf);
+    }
+
+    @Test(expected = Exception.class)
+    public void shouldFailToMatchBeginExWithDifferentUserProperty() throws Exception
+    {
+        BytesMatcher matcher = MqttFunctions.matchBeginEx()
+                                            .typeId(0x01)
+                                            .userProperty("name", "value2")
+                                            .build();
+
+        ByteBuffer byteBuf = ByteBuffer.wrap(MqttFunctions.beginEx()
+                                                          .typeId(0x01)
+                                                          .clientId("client")
+                                                          .topic("sensor/one")
+                                                          .userProperty("name", "value1")
+                                                          .build());
+
+        matcher.match(byteBuf);
+    }
+
+    @Test(expected = Exception.class)
+    public void shouldFailToMatchBeginExWithDifferentFilter() throws Exception
+    {
+        BytesMatcher matcher = MqttFunctions.matchBeginEx()
+                                            .typeId(0x01)
+                                            .filter("sensor/#", 2)
+                                            .build();
+
+        ByteBuffer byteBuf = ByteBuffer.wrap(MqttFunctions.beginEx()
+                                                          .typeId(0x01)
+                                                          .clientId("client")
+                                                          .filter("sensor/#", 1)
+                                                          .build());
+
+        matcher.match(byteBuf);
+    }
+
+    @Test(expected = Exception.class)
+    public void shouldFailToMatchTruncatedBeginEx() throws Exception
+    {
+        BytesMatcher matcher = MqttFunctions.matchBeginEx()
+                                            .typeId(0x01)
+                                            .build();
+
+        matcher.match(ByteBuffer.wrap(new byte[] {0x01, 0x00, 0x00}));
+    }
+
+    @Test
+    public void shouldMatchDataEx() throws Exception
+    {
+        BytesMatcher matcher = MqttFunctions.matchDataEx()
+                                            .typeId(0x01)
+                                            .deferred(0)
+                                            .topic("sensor/one")
+                                            .flags("RETAIN")
+                                            .qos("AT_LEAST_ONCE")
+                                            .packetId(1)
+                                            .subscriptionId(1)
+                                            .subscriptionId(2)
+                                            .expiryInterval(15)
+                                            .contentType("message")
+                                            .format("TEXT")
+                                            .responseTopic("sensor/one")
+                                            .correlation("info")
+                                            .userProperty("name", "value")
+                                            .build();
+
+        ByteBuffer byteBuf = ByteBuffer.wrap(MqttFunctions.dataEx()
+                                                          .typeId(0x01)
+                                                          .topic("sensor/one")
+                                                          .flags("RETAIN")
+                                                          .qos("AT_LEAST_ONCE")
+                                                          .packetId(1)
+                                                          .subscriptionId(1)
+                                                          .subscriptionId(2)
+                                                          .expiryInterval(15)
+                                                          .contentType("message")
+                                                          .format("TEXT")
+                                                          .responseTopic("sensor/one")
+                                                          .correlation("info")
+                                                          .userProperty("name", "value")
+                                                          .build());
+
+        assertNotNull(matcher.match(byteBuf));
+        assertEquals(byteBuf.limit(), byteBuf.position());
+    }
+
+    @Test
+    public void shouldMatchDataExIgnoringUnsetFields() throws Exception
+    {
+        BytesMatcher matcher = MqttFunctions.matchDataEx()
+                                            .typeId(0x01)
+                                            .topic("sensor/one")
+                                            .build();
+
+        ByteBuffer byteBuf = ByteBuffer.wrap(MqttFunctions.dataEx()
+                                                          .typeId(0x01)
+                                                          .topic("sensor/one")
+                                                          .expiryInterval(15)
+                                                          .correlationBytes(new byte[] {0x01, 0x02})
+                                                          .build());
+
+        assertNotNull(matcher.match(byteBuf));
+        assertEquals(byteBuf.limit(), byteBuf.position());
+    }
+
+    @Test
+    public void shouldNotMatchDataExWithoutTypeId() throws Exception
+    {
+        BytesMatcher matcher = MqttFunctions.matchDataEx()
+                                            .topic("sensor/one")
+                                            .build();
+
+        ByteBuffer byteBuf = ByteBuffer.wrap(MqttFunctions.dataEx()
+                                                          .typeId(0x01)
+                                                          .topic("sensor/one")
+                                                          .build());
+
+        assertNull(matcher.match(byteBuf));
+        assertEquals(0, byteBuf.position());
+    }
+
+    @Test
+    public void shouldNotMatchEmptyDataEx() throws Exception
+    {
+        BytesMatcher matcher = MqttFunctions.matchDataEx()
+                                            .typeId(0x01)
+                                            .build();
+
+        assertNull(matcher.match(ByteBuffer.allocate(0)));
+    }
+
+    @Test(expected = Exception.class)
+    public void shouldFailToMatchDataExWithDifferentCorrelation() throws Exception
+    {
+        BytesMatcher matcher = MqttFunctions.matchDataEx()
+                                            .typeId(0x01)
+                                            .topic("sensor/one")
+                                            .correlationBytes(new byte[] {0x01, 0x03})
+                                            .build();
+
+        ByteBuffer byteBuf = ByteBuffer.wrap(MqttFunctions.dataEx()
+                                                          .typeId(0x01)
+                                                          .topic("sensor/one")
+                                                          .correlationBytes(new byte[] {0x01, 0x02})
+                                                          .build());
+
+        matcher.match(byteBuf);
+    }
+
+    @Test(expected = Exception.class)
+    public void shouldFailToMatchDataExWithDifferentSubscriptionIds() throws Exception
+    {
+        BytesMatcher matcher = MqttFunctions.matchDataEx()
+                                            .typeId(0x01)
+                                            .subscriptionId(1)
+                                            .subscriptionId(2)
+                                            .build();
+
+        ByteBuffer byteBuf = ByteBuffer.wrap(MqttFunctions.dataEx()
+                                                          .typeId(0x01)
+                                                          .topic("sensor/one")
+                                                          .subscriptionId(1)
+                                                          .build());
+
+        matcher.match(byteBuf);
+    }
+
+    @Test(expected = Exception.class)
+    public void shouldFailToMatchTruncatedDataEx() throws Exception
+    {
+        BytesMatcher matcher = MqttFunctions.matchDataEx()
+                                            .typeId(0x01)
+                                            .build();
+
+        matcher.match(ByteBuffer.wrap(new byte[] {0x01, 0x00, 0x00}));
+    }
+
+    @Test
+    public void shouldMatchFlushEx() throws Exception
+    {
+        BytesMatcher matcher = MqttFunctions.matchFlushEx()
+                                            .typeId(0x01)
+                                            .flags("SEND_RETAINED")
+                                            .capabilities("PUBLISH_AND_SUBSCRIBE")
+                                            .filter("sensor/one", 1, "SEND_RETAINED")
+                                            .build();
+
+        ByteBuffer byteBuf = ByteBuffer.wrap(MqttFunctions.flushEx()
+                                                          .typeId(0x01)
+                                                          .flags("SEND_RETAINED")
+                                                          .capabilities("PUBLISH_AND_SUBSCRIBE")
+                                                          .filter("sensor/one", 1, "SEND_RETAINED")
+                                                          .build());
+
+        assertNotNull(matcher.match(byteBuf));
+        assertEquals(byteBuf.limit(), byteBuf.position());
+    }
+
+    @Test
+    public void shouldMatchFlushExWithUnsubscribes() throws Exception
+    {
+        BytesMatcher matcher = MqttFunctions.matchFlushEx()
+                                            .typeId(0x01)
+                                            .unsubscribe("sensor/two")
+                                            .build();
+
+        ByteBuffer byteBuf = ByteBuffer.wrap(MqttFunctions.flushEx()
+                                                          .typeId(0x01)
+                                                          .unsubscribe("sensor/two")
+                                                          .build());
+
+        assertNotNull(matcher.match(byteBuf));
+        assertEquals(byteBuf.limit(), byteBuf.position());
+    }
+
+    @Test
+    public void shouldNotMatchFlushExWithoutTypeId() throws Exception
+    {
+        BytesMatcher matcher = MqttFunctions.matchFlushEx()
+                                            .capabilities("PUBLISH_AND_SUBSCRIBE")
+                                            .build();
+
+        ByteBuffer byteBuf = ByteBuffer.wrap(MqttFunctions.flushEx()
+                                                          .typeId(0x01)
+                                                          .capabilities("PUBLISH_AND_SUBSCRIBE")
+                                                          .build());
+
+        assertNull(matcher.match(byteBuf));
+        assertEquals(0, byteBuf.position());
+    }
+
+    @Test
+    public void shouldNotMatchEmptyFlushEx() throws Exception
+    {
+        BytesMatcher matcher = MqttFunctions.matchFlushEx()
+                                            .typeId(0x01)
+                                            .build();
+
+        assertNull(matcher.match(ByteBuffer.allocate(0)));
+    }
+
+    @Test(expected = Exception.class)
+    public void shouldFailToMatchFlushExWithDifferentCapabilities() throws Exception
+    {
+        BytesMatcher matcher = MqttFunctions.matchFlushEx()
+                                            .typeId(0x01)
+                                            .capabilities("SUBSCRIBE_ONLY")
+                                            .build();
+
+        ByteBuffer byteBuf = ByteBuffer.wrap(MqttFunctions.flushEx()
+                                                          .typeId(0x01)
+                                                          .capabilities("PUBLISH_ONLY")
+                                                          .build());
+
+        matcher.match(byteBuf);
+    }
+
+    @Test(expected = Exception.class)
+    public void shouldFailToMatchTruncatedFlushEx() throws Exception
+    {
+        BytesMatcher matcher = MqttFunctions.matchFlushEx()
+                                            .typeId(0x01)
+                                            .build();
+
+        matcher.match(ByteBuffer.wrap(new byte[] {0x01, 0x00, 0x00}));
+    }
+
+    @Test
+    public void shouldEncodeMqttSessionState()
+    {
+        final byte[] array = MqttFunctions.session()
+                                          .expiryInterval(60)
+                                          .expiresAt(123456789L)
+                                          .subscription("sensor/one", 1, "SEND_RETAINED")
+                                          .subscription("device/#", 2)
+                                          .will("wills/one", 5, "AT_LEAST_ONCE", "client one offline", "RETAIN")
+                                          .inflight(1, "AT_LEAST_ONCE")
+                                          .inflight(2, "EXACTLY_ONCE")
+                                          .build();
+
+        DirectBuffer buffer = new UnsafeBuffer(array);
+        MqttSessionStateFW session = new MqttSessionStateFW().wrap(buffer, 0, buffer.capacity());
+
+        assertEquals(60, session.expiryInterval());
+        assertEquals(123456789L, session.expiresAt());
+        assertEquals(2, session.subscriptions().fieldCount());
+        assertNotNull(session.subscriptions()
+                             .matchFirst(f -> "sensor/one".equals(f.pattern().asString()) &&
+                                              1 == f.subscriptionId() &&
+                                              0b01 == f.flags()));
+        assertNotNull(session.subscriptions()
+                             .matchFirst(f -> "device/#".equals(f.pattern().asString()) &&
+                                              2 == f.subscriptionId() &&
+                                              0 == f.flags()));
+        assertEquals("wills/one", session.will().topic().asString());
+        assertEquals(5, session.will().delay());
+        assertEquals("AT_LEAST_ONCE", session.will().qos().toString());
+        assertEquals(0b01, session.will().flags());
+        assertEquals("client one offline", session.will().payload().bytes()
+                                                  .get((b, o, l) -> b.getStringWithoutLengthUtf8(o, l - o)));
+        assertEquals(2, session.inflight().fieldCount());
+        assertNotNull(session.inflight()
+                             .matchFirst(i -> 2 == i.packetId() && "EXACTLY_ONCE".equals(i.qos().toString())));
+    }
+
+    @Test
+    public void shouldEncodeMqttSessionStateWithDefaults()
+    {
+        final byte[] array = MqttFunctions.session()
+                                          .expiryInterval(60)
+                                          .build();
+
+        DirectBuffer buffer = new UnsafeBuffer(array);
+        MqttSessionStateFW session = new MqttSessionStateFW().wrap(buffer, 0, buffer.capacity());
+
+        assertEquals(60, session.expiryInterval());
+        assertEquals(0L, session.expiresAt());
+        assertEquals(0, session.subscriptions().fieldCount());
+        assertNull(session.will().topic().asString());
+        assertEquals(0, session.inflight().fieldCount());
+    }
+
+    @Test
+    public void shouldEncodeMqttSessionStateWithReusableBuilder()
+    {
+        final byte[] array = MqttFunctions.reusable()
+                                          .session()
+                                          .expiryInterval(60)
+                                          .subscription("sensor/one", 1)
+                                          .build();
+
+        final byte[] reused = MqttFunctions.reusable()
+                                           .session()
+                                           .expiryInterval(30)
+                                           .subscription("sensor/two", 1)
+                                           .build();
+
+        DirectBuffer buffer = new UnsafeBuffer(reused);
+        MqttSessionStateFW session = new MqttSessionStateFW().wrap(buffer, 0, buffer.capacity());
+
+        assertNotSame(array, reused);
+        assertEquals(30, session.expiryInterval());
+        assertNotNull(session.subscriptions().matchFirst(f -> "sensor/two".equals(f.pattern().asString())));
+    }
+
+    @Test
+    public void shouldMatchSessionState() throws Exception
+    {
+        BytesMatcher matcher = MqttFunctions.matchSession()
+                                            .expiryInterval(60)
+                                            .expiresAt(123456789L)
+                                            .subscription("sensor/one", 1, "SEND_RETAINED")
+                                            .will("wills/one", 5, "AT_LEAST_ONCE", "client one offline", "RETAIN")
+                                            .inflight(1, "AT_LEAST_ONCE")
+                                            .build();
+
+        ByteBuffer byteBuf = ByteBuffer.wrap(MqttFunctions.session()
+                                                          .expiryInterval(60)
+                                                          .expiresAt(123456789L)
+                                                          .subscription("sensor/one", 1, "SEND_RETAINED")
+                                                          .will("wills/one", 5, "AT_LEAST_ONCE", "client one offline", "RETAIN")
+                                                          .inflight(1, "AT_LEAST_ONCE")
+                                                          .build());
+
+        assertNotNull(matcher.match(byteBuf));
+        assertEquals(byteBuf.limit(), byteBuf.position());
+    }
+
+    @Test
+    public void shouldMatchSessionStateIgnoringUnsetFields() throws Exception
+    {
+        BytesMatcher matcher = MqttFunctions.matchSession()
+                                            .expiryInterval(60)
+                                            .build();
+
+        ByteBuffer byteBuf = ByteBuffer.wrap(MqttFunctions.session()
+                                                          .expiryInterval(60)
+                                                          .expiresAt(System.currentTimeMillis())
+                                                          .subscription("sensor/one", 1)
+                                                          .build());
+
+        assertNotNull(matcher.match(byteBuf));
+        assertEquals(byteBuf.limit(), byteBuf.position());
+    }
+
+    @Test
+    public void shouldNotMatchEmptySessionState() throws Exception
+    {
+        BytesMatcher matcher = MqttFunctions.matchSession()
+                                            .expiryInterval(60)
+                                            .build();
+
+        assertNull(matcher.match(ByteBuffer.allocate(0)));
+    }
+
+    @Test(expected = Exception.class)
+    public void shouldFailToMatchSessionStateWithDifferentWill() throws Exception
+    {
+        BytesMatcher matcher = MqttFunctions.matchSession()
+                                            .will("wills/one", 0, "AT_MOST_ONCE", "offline")
+                                            .build();
+
+        ByteBuffer byteBuf = ByteBuffer.wrap(MqttFunctions.session()
+                                                          .will("wills/one", 0, "AT_MOST_ONCE", "online")
+                                                          .build());
+
+        matcher.match(byteBuf);
+    }
+
+    @Test(expected = Exception.class)
+    public void shouldFailToMatchTruncatedSessionState() throws Exception
+    {
+        BytesMatcher matcher = MqttFunctions.matchSession()
+                                            .build();
+
+        matcher.match(ByteBuffer.wrap(new byte[] {0x3c, 0x00, 0x00}));
+    }
+
+    @Test
+    public void shouldEncodeMqttRetainedSnapshot()
+    {
+        final byte[] array = MqttFunctions.retained()
+                                          .sequence(42L)
+                                          .count(1000)
+                                          .evicted(3)
+                                          .build();
+
+        DirectBuffer buffer = new UnsafeBuffer(array);
+        MqttRetainedSnapshotFW retained = new MqttRetainedSnapshotFW().wrap(buffer, 0, buffer.capacity());
+
+        assertEquals(42L, retained.sequence());
+        assertEquals(1000, retained.count());
+        assertEquals(3, retained.evicted());
+    }
+
+    @Test
+    public void shouldEncodeMqttRetainedSnapshotWithReusableBuilder()
+    {
+        final byte[] array = MqttFunctions.reusable()
+                                          .retained()
+                                          .sequence(1L)
+                                          .count(2)
+                                          .build();
+
+        final byte[] reused = MqttFunctions.reusable()
+                                           .retained()
+                                           .sequence(2L)
+                                           .count(1)
+                                           .build();
+
+        DirectBuffer buffer = new UnsafeBuffer(reused);
+        MqttRetainedSnapshotFW retained = new MqttRetainedSnapshotFW().wrap(buffer, 0, buffer.capacity());
+
+        assertNotSame(array, reused);
+        assertEquals(2L, retained.sequence());
+        assertEquals(1, retained.count());
+        assertEquals(0, retained.evicted());
+    }
 }
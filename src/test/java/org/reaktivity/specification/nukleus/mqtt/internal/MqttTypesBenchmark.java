@@ -0,0 +1,414 @@
+/**
+ * Copyright 2016-2021 The Reaktivity Project
+ *
+ * The Reaktivity Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package org.reaktivity.specification.nukleus.mqtt.internal;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.reaktivity.specification.mqtt.internal.types.MqttBinaryFW;
+import org.reaktivity.specification.mqtt.internal.types.MqttCapabilities;
+import org.reaktivity.specification.mqtt.internal.types.MqttPayloadFormat;
+import org.reaktivity.specification.mqtt.internal.types.MqttQoS;
+import org.reaktivity.specification.mqtt.internal.types.MqttTopicFilterFW;
+import org.reaktivity.specification.mqtt.internal.types.MqttUserPropertyFW;
+import org.reaktivity.specification.mqtt.internal.types.String16FW;
+import org.reaktivity.specification.mqtt.internal.types.stream.MqttAbortExFW;
+import org.reaktivity.specification.mqtt.internal.types.stream.MqttBeginExFW;
+import org.reaktivity.specification.mqtt.internal.types.stream.MqttDataExFW;
+import org.reaktivity.specification.mqtt.internal.types.stream.MqttFlushExFW;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(3)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+public class MqttTypesBenchmark
+{
+    @State(Scope.Thread)
+    public static class BeginExState
+    {
+        @Param({"0", "4", "32"})
+        public int properties;
+
+        @Param({"16", "256"})
+        public int topicLength;
+
+        private final MutableDirectBuffer buffer = new UnsafeBuffer(new byte[64 * 1024]);
+        private final MqttBeginExFW.Builder beginExRW = new MqttBeginExFW.Builder();
+        private final MqttBeginExFW beginExRO = new MqttBeginExFW();
+        private final String16FW clientId = new String16FW("client");
+        private final Consumer<MqttTopicFilterFW.Builder> setFilter = this::setFilter;
+        private final Consumer<MqttTopicFilterFW> readFilter = this::readFilter;
+        private final Consumer<MqttUserPropertyFW.Builder> setProperty = this::setProperty;
+        private final Consumer<MqttUserPropertyFW> readProperty = this::readProperty;
+
+        private String16FW topic;
+        private String16FW[] keys;
+        private String16FW[] values;
+        private int property;
+        private int limit;
+        private int read;
+
+        @Setup
+        public void init()
+        {
+            topic = newTopic(topicLength);
+            keys = newStrings("name", properties);
+            values = newStrings("value", properties);
+            limit = build();
+        }
+
+        private int build()
+        {
+            beginExRW.wrap(buffer, 0, buffer.capacity())
+                     .typeId(0x01)
+                     .capabilities(c -> c.set(MqttCapabilities.SUBSCRIBE_ONLY))
+                     .clientId(clientId)
+                     .qos(q -> q.set(MqttQoS.AT_LEAST_ONCE))
+                     .filtersItem(setFilter);
+
+            for (property = 0; property < properties; property++)
+            {
+                beginExRW.propertiesItem(setProperty);
+            }
+
+            return beginExRW.build().limit();
+        }
+
+        private int read()
+        {
+            final MqttBeginExFW beginEx = beginExRO.wrap(buffer, 0, limit);
+            read = beginEx.typeId() + beginEx.capabilities().get().ordinal() +
+                   beginEx.clientId().length() + beginEx.qos().get().ordinal();
+            beginEx.filters().forEach(readFilter);
+            beginEx.properties().forEach(readProperty);
+            return read;
+        }
+
+        private void setFilter(
+            MqttTopicFilterFW.Builder builder)
+        {
+            builder.pattern(topic).subscriptionId(1).flags(1);
+        }
+
+        private void readFilter(
+            MqttTopicFilterFW filter)
+        {
+            read += filter.pattern().length() + filter.subscriptionId() + filter.flags();
+        }
+
+        private void setProperty(
+            MqttUserPropertyFW.Builder builder)
+        {
+            builder.key(keys[property]).value(values[property]);
+        }
+
+        private void readProperty(
+            MqttUserPropertyFW property)
+        {
+            read += property.key().length() + property.value().length();
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class DataExState
+    {
+        @Param({"0", "4", "32"})
+        public int properties;
+
+        @Param({"16", "256"})
+        public int topicLength;
+
+        @Param({"0", "64", "1024"})
+        public int correlationLength;
+
+        private final MutableDirectBuffer buffer = new UnsafeBuffer(new byte[64 * 1024]);
+        private final MqttDataExFW.Builder dataExRW = new MqttDataExFW.Builder();
+        private final MqttDataExFW dataExRO = new MqttDataExFW();
+        private final String16FW contentType = new String16FW("message");
+        private final Consumer<MqttBinaryFW.Builder> setCorrelation = this::setCorrelation;
+        private final Consumer<MqttUserPropertyFW.Builder> setProperty = this::setProperty;
+        private final Consumer<MqttUserPropertyFW> readProperty = this::readProperty;
+
+        private String16FW topic;
+        private UnsafeBuffer correlation;
+        private String16FW[] keys;
+        private String16FW[] values;
+        private int property;
+        private int limit;
+        private int read;
+
+        @Setup
+        public void init()
+        {
+            topic = newTopic(topicLength);
+            correlation = new UnsafeBuffer(new byte[correlationLength]);
+            keys = newStrings("name", properties);
+            values = newStrings("value", properties);
+            limit = build();
+        }
+
+        private int build()
+        {
+            dataExRW.wrap(buffer, 0, buffer.capacity())
+                    .typeId(0x01)
+                    .topic(topic)
+                    .flags(1)
+                    .qos(q -> q.set(MqttQoS.AT_LEAST_ONCE))
+                    .packetId(1)
+                    .expiryInterval(15)
+                    .contentType(contentType)
+                    .format(f -> f.set(MqttPayloadFormat.TEXT))
+                    .responseTopic(topic)
+                    .correlation(setCorrelation);
+
+            for (property = 0; property < properties; property++)
+            {
+                dataExRW.propertiesItem(setProperty);
+            }
+
+            return dataExRW.build().limit();
+        }
+
+        private void setCorrelation(
+            MqttBinaryFW.Builder builder)
+        {
+            builder.bytes(correlation, 0, correlation.capacity());
+        }
+
+        private int read()
+        {
+            final MqttDataExFW dataEx = dataExRO.wrap(buffer, 0, limit);
+            read = dataEx.typeId() + dataEx.deferred() + dataEx.topic().length() +
+                   dataEx.flags() + dataEx.qos().get().ordinal() + dataEx.packetId() +
+                   dataEx.expiryInterval() + dataEx.contentType().length() + dataEx.format().get().ordinal() +
+                   dataEx.responseTopic().length() + dataEx.correlation().bytes().sizeof();
+            dataEx.properties().forEach(readProperty);
+            return read;
+        }
+
+        private void setProperty(
+            MqttUserPropertyFW.Builder builder)
+        {
+            builder.key(keys[property]).value(values[property]);
+        }
+
+        private void readProperty(
+            MqttUserPropertyFW property)
+        {
+            read += property.key().length() + property.value().length();
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class FlushExState
+    {
+        private final MutableDirectBuffer buffer = new UnsafeBuffer(new byte[1024]);
+        private final MqttFlushExFW.Builder flushExRW = new MqttFlushExFW.Builder();
+        private final MqttFlushExFW flushExRO = new MqttFlushExFW();
+
+        private int limit;
+
+        @Setup
+        public void init()
+        {
+            limit = build();
+        }
+
+        private int build()
+        {
+            return flushExRW.wrap(buffer, 0, buffer.capacity())
+                            .typeId(0x01)
+                            .flags(1)
+                            .capabilities(c -> c.set(MqttCapabilities.PUBLISH_AND_SUBSCRIBE))
+                            .build()
+                            .limit();
+        }
+
+        private int read()
+        {
+            final MqttFlushExFW flushEx = flushExRO.wrap(buffer, 0, limit);
+            return flushEx.typeId() + flushEx.flags() + flushEx.capabilities().get().ordinal();
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class AbortExState
+    {
+        private final MutableDirectBuffer buffer = new UnsafeBuffer(new byte[1024]);
+        private final MqttAbortExFW.Builder abortExRW = new MqttAbortExFW.Builder();
+        private final MqttAbortExFW abortExRO = new MqttAbortExFW();
+
+        private int limit;
+
+        @Setup
+        public void init()
+        {
+            limit = build();
+        }
+
+        private int build()
+        {
+            return abortExRW.wrap(buffer, 0, buffer.capacity())
+                            .typeId(0x01)
+                            .reason(0x87)
+                            .build()
+                            .limit();
+        }
+
+        private int read()
+        {
+            final MqttAbortExFW abortEx = abortExRO.wrap(buffer, 0, limit);
+            return abortEx.typeId() + abortEx.reason();
+        }
+    }
+
+    @Benchmark
+    public int buildBeginEx(
+        BeginExState state)
+    {
+        return state.build();
+    }
+
+    @Benchmark
+    public int wrapBeginEx(
+        BeginExState state)
+    {
+        return state.beginExRO.wrap(state.buffer, 0, state.limit).limit();
+    }
+
+    @Benchmark
+    public int readBeginEx(
+        BeginExState state)
+    {
+        return state.read();
+    }
+
+    @Benchmark
+    public int buildDataEx(
+        DataExState state)
+    {
+        return state.build();
+    }
+
+    @Benchmark
+    public int wrapDataEx(
+        DataExState state)
+    {
+        return state.dataExRO.wrap(state.buffer, 0, state.limit).limit();
+    }
+
+    @Benchmark
+    public int readDataEx(
+        DataExState state)
+    {
+        return state.read();
+    }
+
+    @Benchmark
+    public int buildFlushEx(
+        FlushExState state)
+    {
+        return state.build();
+    }
+
+    @Benchmark
+    public int wrapFlushEx(
+        FlushExState state)
+    {
+        return state.flushExRO.wrap(state.buffer, 0, state.limit).limit();
+    }
+
+    @Benchmark
+    public int readFlushEx(
+        FlushExState state)
+    {
+        return state.read();
+    }
+
+    @Benchmark
+    public int buildAbortEx(
+        AbortExState state)
+    {
+        return state.build();
+    }
+
+    @Benchmark
+    public int wrapAbortEx(
+        AbortExState state)
+    {
+        return state.abortExRO.wrap(state.buffer, 0, state.limit).limit();
+    }
+
+    @Benchmark
+    public int readAbortEx(
+        AbortExState state)
+    {
+        return state.read();
+    }
+
+    private static String16FW newTopic(
+        int length)
+    {
+        final StringBuilder topic = new StringBuilder("sensor");
+        while (topic.length() < length)
+        {
+            topic.append(topic.length() % 8 == 0 ? '/' : 'x');
+        }
+        return new String16FW(topic.toString());
+    }
+
+    private static String16FW[] newStrings(
+        String prefix,
+        int count)
+    {
+        final String16FW[] strings = new String16FW[count];
+        for (int i = 0; i < count; i++)
+        {
+            strings[i] = new String16FW(prefix + i);
+        }
+        return strings;
+    }
+
+    public static void main(
+        String[] args) throws RunnerException
+    {
+        Options opt = new OptionsBuilder()
+                .include(MqttTypesBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build();
+
+        new Runner(opt).run();
+    }
+}
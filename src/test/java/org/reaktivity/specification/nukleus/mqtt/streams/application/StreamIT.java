@@ -23,6 +23,7 @@ import org.junit.Test;
 import org.junit.rules.DisableOnDebug;
 import org.junit.rules.TestRule;
 import org.junit.rules.Timeout;
+import org.kaazing.k3po.junit.annotation.ScriptProperty;
 import org.kaazing.k3po.junit.annotation.Specification;
 import org.kaazing.k3po.junit.rules.K3poRule;
 
@@ -404,4 +405,431 @@ public class StreamIT
     {
         k3po.finish();
     }
+
+    @Test
+    @Specification({
+        "${app}/publish.qos1.one.message/client",
+        "${app}/publish.qos1.one.message/server"})
+    public void shouldPublishQoS1OneMessage() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${app}/publish.qos1.messages.pipelined/client",
+        "${app}/publish.qos1.messages.pipelined/server"})
+    public void shouldPublishQoS1MessagesPipelined() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${app}/subscribe.qos1.messages.pipelined/client",
+        "${app}/subscribe.qos1.messages.pipelined/server"})
+    public void shouldSubscribeQoS1MessagesPipelined() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${app}/publish.qos2.one.message/client",
+        "${app}/publish.qos2.one.message/server"})
+    public void shouldPublishQoS2OneMessage() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${app}/publish.qos2.messages.interleaved/client",
+        "${app}/publish.qos2.messages.interleaved/server"})
+    public void shouldPublishQoS2MessagesInterleaved() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${app}/subscribe.qos2.messages.interleaved/client",
+        "${app}/subscribe.qos2.messages.interleaved/server"})
+    public void shouldSubscribeQoS2MessagesInterleaved() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${app}/subscribe.qos2.redelivered.message/client",
+        "${app}/subscribe.qos2.redelivered.message/server"})
+    public void shouldSubscribeQoS2RedeliveredMessage() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${app}/publish.many.messages/client",
+        "${app}/publish.many.messages/server"})
+    public void shouldPublishManyMessages() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${app}/publish.many.messages/client",
+        "${app}/publish.many.messages/server"})
+    @ScriptProperty("window 65536")
+    public void shouldPublishManyMessagesWithWindow64K() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${app}/publish.many.messages/client",
+        "${app}/publish.many.messages/server"})
+    @ScriptProperty("window 1048576")
+    public void shouldPublishManyMessagesWithWindow1M() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${app}/publish.large.message/client",
+        "${app}/publish.large.message/server"})
+    public void shouldPublishLargeMessage() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${app}/publish.large.message/client",
+        "${app}/publish.large.message/server"})
+    @ScriptProperty("window 65536")
+    public void shouldPublishLargeMessageWithWindow64K() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${app}/publish.large.message/client",
+        "${app}/publish.large.message/server"})
+    @ScriptProperty("window 1048576")
+    public void shouldPublishLargeMessageWithWindow1M() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${app}/subscribe.with.shared.topic.filter/client",
+        "${app}/subscribe.with.shared.topic.filter/server"})
+    public void shouldSubscribeWithSharedTopicFilter() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${app}/subscribe.with.shared.topic.filter.round.robin/client",
+        "${app}/subscribe.with.shared.topic.filter.round.robin/server"})
+    public void shouldSubscribeWithSharedTopicFilterRoundRobin() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${app}/subscribe.with.shared.topic.filter.sticky/client",
+        "${app}/subscribe.with.shared.topic.filter.sticky/server"})
+    public void shouldSubscribeWithSharedTopicFilterSticky() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${app}/subscribe.with.isolated.topic.filters.fan.out/client",
+        "${app}/subscribe.with.isolated.topic.filters.fan.out/server"})
+    public void shouldSubscribeWithIsolatedTopicFiltersFanOut() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${app}/subscribe.with.batched.topic.filters/client",
+        "${app}/subscribe.with.batched.topic.filters/server"})
+    public void shouldSubscribeWithBatchedTopicFilters() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${app}/subscribe.with.batched.topic.filters.then.add.filter/client",
+        "${app}/subscribe.with.batched.topic.filters.then.add.filter/server"})
+    public void shouldSubscribeWithBatchedTopicFiltersThenAddFilter() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${app}/subscribe.with.batched.topic.filters.then.remove.filter/client",
+        "${app}/subscribe.with.batched.topic.filters.then.remove.filter/server"})
+    public void shouldSubscribeWithBatchedTopicFiltersThenRemoveFilter() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${app}/unsubscribe.batched.topic.filter.via.flush/client",
+        "${app}/unsubscribe.batched.topic.filter.via.flush/server"})
+    public void shouldUnsubscribeBatchedTopicFilterViaFlush() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${app}/unsubscribe.batched.topic.filters.churn/client",
+        "${app}/unsubscribe.batched.topic.filters.churn/server"})
+    public void shouldChurnBatchedTopicFiltersViaFlush() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${app}/session.resume.with.subscription.delta/client",
+        "${app}/session.resume.with.subscription.delta/server"})
+    public void shouldResumeSessionWithSubscriptionDelta() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${app}/session.takeover/client",
+        "${app}/session.takeover/server"})
+    public void shouldTakeOverSession() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${app}/subscribe.retained.wildcard.windowed/client",
+        "${app}/subscribe.retained.wildcard.windowed/server"})
+    public void shouldReceiveRetainedWildcardWindowed() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${app}/subscribe.retained.snapshot/client",
+        "${app}/subscribe.retained.snapshot/server"})
+    public void shouldReceiveRetainedSnapshot() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${app}/publish.retained.quota.exceeded/client",
+        "${app}/publish.retained.quota.exceeded/server"})
+    public void shouldRejectPublishRetainedWhenQuotaExceeded() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${app}/subscribe.messages.with.small.window/client",
+        "${app}/subscribe.messages.with.small.window/server"})
+    public void shouldReceiveMessagesWithSmallWindow() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${app}/subscribe.qos0.messages.dropped.when.stalled/client",
+        "${app}/subscribe.qos0.messages.dropped.when.stalled/server"})
+    public void shouldDropQos0MessagesWhenStalled() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${app}/subscribe.qos1.slow.subscriber.queued/client",
+        "${app}/subscribe.qos1.slow.subscriber.queued/server"})
+    public void shouldQueueQos1MessagesForSlowSubscriber() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${app}/subscribe.message.expiry.interval.rewritten/client",
+        "${app}/subscribe.message.expiry.interval.rewritten/server"})
+    public void shouldRewriteMessageExpiryInterval() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${app}/subscribe.expired.message.dropped/client",
+        "${app}/subscribe.expired.message.dropped/server"})
+    public void shouldDropExpiredMessage() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${app}/subscribe.oversized.message.dropped/client",
+        "${app}/subscribe.oversized.message.dropped/server"})
+    public void shouldDropOversizedMessage() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${app}/publish.large.message.streamed/client",
+        "${app}/publish.large.message.streamed/server"})
+    public void shouldPublishLargeMessageStreamed() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${app}/subscribe.large.message.streamed/client",
+        "${app}/subscribe.large.message.streamed/server"})
+    public void shouldReceiveLargeMessageStreamed() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${app}/publish.large.route.table/client",
+        "${app}/publish.large.route.table/server"})
+    public void shouldPublishWithLargeRouteTable() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${app}/publish.partitioned.by.topic/client",
+        "${app}/publish.partitioned.by.topic/server"})
+    public void shouldPublishPartitionedByTopic() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${app}/publish.partitioned.by.client.id/client",
+        "${app}/publish.partitioned.by.client.id/server"})
+    public void shouldPublishPartitionedByClientId() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${app}/subscribe.conflated.when.stalled/client",
+        "${app}/subscribe.conflated.when.stalled/server"})
+    public void shouldSubscribeConflatedWhenStalled() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${app}/session.resume.with.retain.handling/client",
+        "${app}/session.resume.with.retain.handling/server"})
+    public void shouldResumeSessionWithRetainHandling() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${app}/subscribe.retain.handling.skip/client",
+        "${app}/subscribe.retain.handling.skip/server"})
+    public void shouldSubscribeWithRetainHandlingSkip() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${app}/subscribe.receive.messages.with.topic.alias/client",
+        "${app}/subscribe.receive.messages.with.topic.alias/server"})
+    public void shouldReceiveMessagesWithTopicAlias() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${app}/subscribe.receive.messages.with.topic.alias.replaced/client",
+        "${app}/subscribe.receive.messages.with.topic.alias.replaced/server"})
+    public void shouldReceiveMessagesWithTopicAliasReplaced() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${app}/publish.split.at.every.byte/client",
+        "${app}/publish.split.at.every.byte/server"})
+    public void shouldPublishSplitAtEveryByte() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${app}/publish.coalesced.packets/client",
+        "${app}/publish.coalesced.packets/server"})
+    public void shouldPublishCoalescedPackets() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${app}/subscribe.split.at.every.byte/client",
+        "${app}/subscribe.split.at.every.byte/server"})
+    public void shouldSubscribeSplitAtEveryByte() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${app}/unsubscribe.split.at.every.byte/client",
+        "${app}/unsubscribe.split.at.every.byte/server"})
+    public void shouldUnsubscribeSplitAtEveryByte() throws Exception
+    {
+        k3po.finish();
+    }
 }
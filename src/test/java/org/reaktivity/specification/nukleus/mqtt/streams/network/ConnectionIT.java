@@ -323,4 +323,112 @@ public class ConnectionIT
     {
         k3po.finish();
     }
+
+    @Test
+    @Specification({
+        "${net}/session.resume.with.subscription.delta/client",
+        "${net}/session.resume.with.subscription.delta/server"})
+    public void shouldResumeSessionWithSubscriptionDelta() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${net}/session.takeover/client",
+        "${net}/session.takeover/server"})
+    public void shouldTakeOverSession() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${net}/connect/receive.maximum/client",
+        "${net}/connect/receive.maximum/server"})
+    public void shouldConnectWithReceiveMaximum() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${net}/connect/maximum.packet.size/client",
+        "${net}/connect/maximum.packet.size/server"})
+    public void shouldConnectWithMaximumPacketSize() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${net}/connect/successful.fragmented.every.byte/client",
+        "${net}/connect/successful.fragmented.every.byte/server"})
+    public void shouldConnectFragmentedEveryByte() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${net}/connect.with.server.keep.alive/client",
+        "${net}/connect.with.server.keep.alive/server"})
+    public void shouldConnectWithServerKeepAlive() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${net}/disconnect.after.server.keep.alive.timeout/client",
+        "${net}/disconnect.after.server.keep.alive.timeout/server"})
+    public void shouldDisconnectClientAfterServerKeepAliveTimeout() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${net}/keep.alive.staggered.idle.connections/client",
+        "${net}/keep.alive.staggered.idle.connections/server"})
+    public void shouldKeepAliveStaggeredIdleConnections() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${net}/keep.alive.staggered.idle.connections.with.server.keep.alive/client",
+        "${net}/keep.alive.staggered.idle.connections.with.server.keep.alive/server"})
+    public void shouldKeepAliveStaggeredIdleConnectionsWithServerKeepAlive() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${net}/connect/successful.with.options/client",
+        "${net}/connect/successful.with.options/server"})
+    public void shouldConnectWithOptions() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${net}/connect/reject.maximum.sessions.exceeded/client",
+        "${net}/connect/reject.maximum.sessions.exceeded/server"})
+    public void shouldRejectConnectWhenMaximumSessionsExceeded() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${net}/session.resume.with.retain.handling/client",
+        "${net}/session.resume.with.retain.handling/server"})
+    public void shouldResumeSessionWithRetainHandling() throws Exception
+    {
+        k3po.finish();
+    }
 }
@@ -23,6 +23,7 @@ import org.junit.Test;
 import org.junit.rules.DisableOnDebug;
 import org.junit.rules.TestRule;
 import org.junit.rules.Timeout;
+import org.kaazing.k3po.junit.annotation.ScriptProperty;
 import org.kaazing.k3po.junit.annotation.Specification;
 import org.kaazing.k3po.junit.rules.K3poRule;
 
@@ -290,4 +291,314 @@ public class PublishIT
     {
         k3po.finish();
     }
+
+    @Test
+    @Specification({
+        "${net}/publish.qos1.one.message/client",
+        "${net}/publish.qos1.one.message/server"})
+    public void shouldPublishQoS1OneMessage() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${net}/publish.qos1.messages.pipelined/client",
+        "${net}/publish.qos1.messages.pipelined/server"})
+    public void shouldPublishQoS1MessagesPipelined() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${net}/reject.publish.qos1.when.receive.maximum.exceeded/client",
+        "${net}/reject.publish.qos1.when.receive.maximum.exceeded/server"})
+    public void shouldRejectPublishQoS1WhenReceiveMaximumExceeded() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${net}/subscribe.qos1.messages.pipelined/client",
+        "${net}/subscribe.qos1.messages.pipelined/server"})
+    public void shouldSubscribeQoS1MessagesPipelined() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${net}/publish.qos2.one.message/client",
+        "${net}/publish.qos2.one.message/server"})
+    public void shouldPublishQoS2OneMessage() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${net}/publish.qos2.messages.interleaved/client",
+        "${net}/publish.qos2.messages.interleaved/server"})
+    public void shouldPublishQoS2MessagesInterleaved() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${net}/publish.qos2.duplicate.message/client",
+        "${net}/publish.qos2.duplicate.message/server"})
+    public void shouldPublishQoS2DuplicateMessage() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${net}/publish.qos2.release.unknown.packet.id/client",
+        "${net}/publish.qos2.release.unknown.packet.id/server"})
+    public void shouldReleaseQoS2UnknownPacketId() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${net}/subscribe.qos2.messages.interleaved/client",
+        "${net}/subscribe.qos2.messages.interleaved/server"})
+    public void shouldSubscribeQoS2MessagesInterleaved() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${net}/subscribe.qos2.redelivered.message/client",
+        "${net}/subscribe.qos2.redelivered.message/server"})
+    public void shouldSubscribeQoS2RedeliveredMessage() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${net}/publish.many.messages/client",
+        "${net}/publish.many.messages/server"})
+    public void shouldPublishManyMessages() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${net}/publish.many.messages/client",
+        "${net}/publish.many.messages/server"})
+    @ScriptProperty("window 65536")
+    public void shouldPublishManyMessagesWithWindow64K() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${net}/publish.many.messages/client",
+        "${net}/publish.many.messages/server"})
+    @ScriptProperty("window 1048576")
+    public void shouldPublishManyMessagesWithWindow1M() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${net}/publish.large.message/client",
+        "${net}/publish.large.message/server"})
+    public void shouldPublishLargeMessage() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${net}/publish.large.message/client",
+        "${net}/publish.large.message/server"})
+    @ScriptProperty("window 65536")
+    public void shouldPublishLargeMessageWithWindow64K() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${net}/publish.large.message/client",
+        "${net}/publish.large.message/server"})
+    @ScriptProperty("window 1048576")
+    public void shouldPublishLargeMessageWithWindow1M() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${net}/subscribe.retained.wildcard.windowed/client",
+        "${net}/subscribe.retained.wildcard.windowed/server"})
+    public void shouldReceiveRetainedWildcardWindowed() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${net}/publish.retained.quota.exceeded/client",
+        "${net}/publish.retained.quota.exceeded/server"})
+    public void shouldRejectPublishRetainedWhenQuotaExceeded() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${net}/subscribe.messages.with.small.window/client",
+        "${net}/subscribe.messages.with.small.window/server"})
+    public void shouldReceiveMessagesWithSmallWindow() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${net}/subscribe.qos0.messages.dropped.when.stalled/client",
+        "${net}/subscribe.qos0.messages.dropped.when.stalled/server"})
+    public void shouldDropQos0MessagesWhenStalled() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${net}/subscribe.qos1.slow.subscriber.queued/client",
+        "${net}/subscribe.qos1.slow.subscriber.queued/server"})
+    public void shouldQueueQos1MessagesForSlowSubscriber() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${net}/subscribe.message.expiry.interval.rewritten/client",
+        "${net}/subscribe.message.expiry.interval.rewritten/server"})
+    public void shouldRewriteMessageExpiryInterval() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${net}/subscribe.expired.message.dropped/client",
+        "${net}/subscribe.expired.message.dropped/server"})
+    public void shouldDropExpiredMessage() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${net}/subscribe.oversized.message.dropped/client",
+        "${net}/subscribe.oversized.message.dropped/server"})
+    public void shouldDropOversizedMessage() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${net}/reject.publish.when.packet.too.large/client",
+        "${net}/reject.publish.when.packet.too.large/server"})
+    public void shouldRejectPublishWhenPacketTooLarge() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${net}/publish.split.at.every.byte/client",
+        "${net}/publish.split.at.every.byte/server"})
+    public void shouldPublishSplitAtEveryByte() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${net}/publish.coalesced.packets/client",
+        "${net}/publish.coalesced.packets/server"})
+    public void shouldDecodeCoalescedPackets() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${net}/publish.large.message.streamed/client",
+        "${net}/publish.large.message.streamed/server"})
+    public void shouldPublishLargeMessageStreamed() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${net}/subscribe.large.message.streamed/client",
+        "${net}/subscribe.large.message.streamed/server"})
+    public void shouldReceiveLargeMessageStreamed() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${net}/publish.large.route.table/client",
+        "${net}/publish.large.route.table/server"})
+    public void shouldPublishWithLargeRouteTable() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${net}/subscribe.conflated.when.stalled/client",
+        "${net}/subscribe.conflated.when.stalled/server"})
+    public void shouldSubscribeConflatedWhenStalled() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${net}/subscribe.retain.handling.skip/client",
+        "${net}/subscribe.retain.handling.skip/server"})
+    public void shouldSubscribeWithRetainHandlingSkip() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${net}/publish.partitioned.by.topic/client",
+        "${net}/publish.partitioned.by.topic/server"})
+    public void shouldPublishPartitionedByTopic() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${net}/publish.partitioned.by.client.id/client",
+        "${net}/publish.partitioned.by.client.id/server"})
+    public void shouldPublishPartitionedByClientId() throws Exception
+    {
+        k3po.finish();
+    }
 }
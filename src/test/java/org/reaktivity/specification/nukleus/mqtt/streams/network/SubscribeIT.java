@@ -143,4 +143,103 @@ public class SubscribeIT
     {
         k3po.finish();
     }
+
+    @Test
+    @Specification({
+        "${net}/shared.topic.filter/client",
+        "${net}/shared.topic.filter/server"})
+    public void shouldSubscribeToSharedTopicFilter() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${net}/shared.topic.filter.round.robin/client",
+        "${net}/shared.topic.filter.round.robin/server"})
+    public void shouldSubscribeToSharedTopicFilterRoundRobin() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${net}/shared.topic.filter.sticky/client",
+        "${net}/shared.topic.filter.sticky/server"})
+    public void shouldSubscribeToSharedTopicFilterSticky() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${net}/reject.shared.no.local/client",
+        "${net}/reject.shared.no.local/server"})
+    public void shouldRejectSubscribeWithSharedTopicFilterAndNoLocal() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${net}/invalid.share.name/client",
+        "${net}/invalid.share.name/server"})
+    public void shouldRejectSubscribeWithInvalidShareName() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${net}/isolated.topic.filters.fan.out/client",
+        "${net}/isolated.topic.filters.fan.out/server"})
+    public void shouldFanOutMessageToIsolatedTopicFilters() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${net}/batched.topic.filters/client",
+        "${net}/batched.topic.filters/server"})
+    public void shouldSubscribeBatchedTopicFilters() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${net}/batched.topic.filters.then.add/client",
+        "${net}/batched.topic.filters.then.add/server"})
+    public void shouldSubscribeBatchedTopicFiltersThenAdd() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${net}/receive.messages.with.topic.alias/client",
+        "${net}/receive.messages.with.topic.alias/server"})
+    public void shouldReceiveMessagesWithTopicAlias() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${net}/receive.messages.with.topic.alias.replaced/client",
+        "${net}/receive.messages.with.topic.alias.replaced/server"})
+    public void shouldReceiveMessagesWithTopicAliasReplaced() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${net}/split.at.every.byte/client",
+        "${net}/split.at.every.byte/server"})
+    public void shouldSubscribeSplitAtEveryByte() throws Exception
+    {
+        k3po.finish();
+    }
 }
@@ -62,4 +62,31 @@ public class UnsubscribeIT
     {
         k3po.finish();
     }
+
+    @Test
+    @Specification({
+        "${net}/batched.topic.filters.partial/client",
+        "${net}/batched.topic.filters.partial/server"})
+    public void shouldUnsubscribeFromBatchedTopicFiltersPartially() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${net}/batched.topic.filters.churn/client",
+        "${net}/batched.topic.filters.churn/server"})
+    public void shouldChurnBatchedTopicFilters() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${net}/split.at.every.byte/client",
+        "${net}/split.at.every.byte/server"})
+    public void shouldUnsubscribeSplitAtEveryByte() throws Exception
+    {
+        k3po.finish();
+    }
 }